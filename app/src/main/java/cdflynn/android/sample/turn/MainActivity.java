@@ -20,6 +20,11 @@ import cdflynn.android.library.turn.TurnLayoutManager;
 
 public class MainActivity extends AppCompatActivity {
 
+    /**
+     * Seek bar changes ease towards the new value rather than jumping to it.
+     */
+    private static final long SEEK_ANIMATION_MS = 120;
+
     static class Views {
         ViewGroup root;
         RecyclerView list;
@@ -30,6 +35,7 @@ public class MainActivity extends AppCompatActivity {
         Spinner gravity;
         Spinner orientation;
         CheckBox rotate;
+        CheckBox translate;
         View controlsHandle;
         View controls;
 
@@ -43,6 +49,7 @@ public class MainActivity extends AppCompatActivity {
             gravity = activity.findViewById(R.id.gravity);
             orientation = activity.findViewById(R.id.orientation);
             rotate = activity.findViewById(R.id.rotate);
+            translate = activity.findViewById(R.id.translate);
             controlsHandle = activity.findViewById(R.id.control_handle);
             controls = activity.findViewById(R.id.control_panel);
         }
@@ -77,6 +84,7 @@ public class MainActivity extends AppCompatActivity {
         views.gravity.setAdapter(new GravityAdapter(this, R.layout.spinner_item));
         views.orientation.setAdapter(new OrientationAdapter(this, R.layout.spinner_item));
         views.rotate.setOnCheckedChangeListener(rotateListener);
+        views.translate.setOnCheckedChangeListener(translateListener);
         views.controlsHandle.setOnClickListener(controlsHandleClickListener);
     }
 
@@ -85,7 +93,7 @@ public class MainActivity extends AppCompatActivity {
         public void onProgressChanged(SeekBar seekBar, int progress, boolean fromUser) {
             views.radiusText.setText(getResources().getString(R.string.radius_format, progress));
             if (fromUser) {
-                layoutManager.setRadius(progress);
+                layoutManager.animateRadius(progress, SEEK_ANIMATION_MS, null);
             }
         }
 
@@ -105,7 +113,7 @@ public class MainActivity extends AppCompatActivity {
         public void onProgressChanged(SeekBar seekBar, int progress, boolean fromUser) {
             views.peekText.setText(getResources().getString(R.string.peek_format, progress));
             if (fromUser) {
-                layoutManager.setPeekDistance(progress);
+                layoutManager.animatePeekDistance(progress, SEEK_ANIMATION_MS, null);
             }
         }
 
@@ -167,6 +175,15 @@ public class MainActivity extends AppCompatActivity {
         }
     };
 
+    private final CompoundButton.OnCheckedChangeListener translateListener = new CompoundButton.OnCheckedChangeListener() {
+        @Override
+        public void onCheckedChanged(CompoundButton buttonView, boolean isChecked) {
+            layoutManager.setOffsetMode(isChecked
+                    ? TurnLayoutManager.OffsetMode.TRANSLATION
+                    : TurnLayoutManager.OffsetMode.LAYOUT);
+        }
+    };
+
     private final View.OnClickListener controlsHandleClickListener = new View.OnClickListener() {
         @Override
         public void onClick(View v) {
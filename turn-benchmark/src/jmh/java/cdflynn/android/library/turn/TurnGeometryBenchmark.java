@@ -0,0 +1,113 @@
+package cdflynn.android.library.turn;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the per-frame cost of the turn math, as run by {@code TurnLayoutManager} over every
+ * attached child on each scroll.  Gravity only mirrors the offsets, so it is not a parameter.
+ * <p>
+ * Run with {@code ./gradlew :turn-benchmark:jmh}.
+ *
+ * @see TurnGeometryBuildBenchmark
+ * @see TurnPathBenchmark
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class TurnGeometryBenchmark {
+
+    private static final int WIDTH = 1080;
+    private static final int HEIGHT = 1920;
+
+    @Param({"300", "1200", "4000"})
+    public int radius;
+
+    @Param({"0", "150"})
+    public int peekDistance;
+
+    @Param({"true", "false"})
+    public boolean vertical;
+
+    @Param({"10", "50", "200"})
+    public int childCount;
+
+    private TurnGeometry geometry;
+    private float[] childCenters;
+    private float scroll;
+
+    @Setup
+    public void setUp() {
+        geometry = new TurnGeometry(vertical, true, radius, peekDistance, WIDTH, HEIGHT, false);
+        childCenters = new float[childCount];
+        final float spacing = (float) (vertical ? HEIGHT : WIDTH) / childCount;
+        for (int i = 0; i < childCount; i++) {
+            childCenters[i] = spacing * i + spacing / 2;
+        }
+    }
+
+    /**
+     * One offset pass, reading from the lookup table.  Child centers drift by a sub-pixel amount per
+     * invocation, as they would during a slow drag.
+     */
+    @Benchmark
+    public void offsetPass(Blackhole blackhole) {
+        pass(blackhole, false);
+    }
+
+    /**
+     * One offset pass, interpolating between table entries.
+     */
+    @Benchmark
+    public void offsetPassInterpolated(Blackhole blackhole) {
+        pass(blackhole, true);
+    }
+
+    /**
+     * One offset pass, computing each child's offset and angle directly.  This is the baseline cost
+     * the lookup table replaces.
+     */
+    @Benchmark
+    public void offsetPassDirect(Blackhole blackhole) {
+        scroll = (scroll + 0.37f) % 1;
+        final int apex = geometry.apex();
+        for (int i = 0; i < childCount; i++) {
+            final float position = childCenters[i] + scroll;
+            blackhole.consume(TurnGeometry.resolveOffset(radius, position, apex, peekDistance));
+            blackhole.consume(TurnGeometry.resolveAngle(radius, position, apex));
+        }
+    }
+
+    /**
+     * One offset pass, computing each child's offset and angle directly in {@code float} with the
+     * polynomial {@code asin}, as {@code TurnLayoutManager.Precision.FAST} does.
+     */
+    @Benchmark
+    public void offsetPassDirectFast(Blackhole blackhole) {
+        scroll = (scroll + 0.37f) % 1;
+        final int apex = geometry.apex();
+        for (int i = 0; i < childCount; i++) {
+            final float position = childCenters[i] + scroll;
+            blackhole.consume(TurnGeometry.resolveOffsetFast(radius, position, apex, peekDistance));
+            blackhole.consume(TurnGeometry.resolveAngleFast(radius, position, apex));
+        }
+    }
+
+    private void pass(Blackhole blackhole, boolean interpolate) {
+        scroll = (scroll + 0.37f) % 1;
+        for (int i = 0; i < childCount; i++) {
+            final float position = childCenters[i] + scroll;
+            blackhole.consume(geometry.offsetAt(position, interpolate));
+            blackhole.consume(geometry.angleAt(position, interpolate));
+        }
+    }
+}
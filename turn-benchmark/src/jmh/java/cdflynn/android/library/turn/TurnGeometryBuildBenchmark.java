@@ -0,0 +1,59 @@
+package cdflynn.android.library.turn;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the cost of getting the geometry for a configuration, which is paid once per layout
+ * that changes it rather than once per frame.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class TurnGeometryBuildBenchmark {
+
+    private static final int WIDTH = 1080;
+    private static final int HEIGHT = 1920;
+
+    @Param({"300", "1200", "4000"})
+    public int radius;
+
+    @Param({"0", "150"})
+    public int peekDistance;
+
+    @Param({"true", "false"})
+    public boolean vertical;
+
+    /**
+     * Building the geometry for a new configuration, as happens on the first layout and after any
+     * change to radius, peek distance, gravity or size.
+     */
+    @Benchmark
+    public TurnGeometry build() {
+        return new TurnGeometry(vertical, true, radius, peekDistance, WIDTH, HEIGHT, false);
+    }
+
+    /**
+     * Building the geometry with fast precision.
+     */
+    @Benchmark
+    public TurnGeometry buildFast() {
+        return new TurnGeometry(vertical, true, radius, peekDistance, WIDTH, HEIGHT, true);
+    }
+
+    /**
+     * Obtaining the geometry from the shared cache, as every list after the first with the same
+     * configuration does.
+     */
+    @Benchmark
+    public TurnGeometry obtainCached() {
+        return TurnGeometryCache.obtain(vertical, true, radius, peekDistance, WIDTH, HEIGHT, false);
+    }
+}
@@ -0,0 +1,38 @@
+package cdflynn.android.library.turn;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the cost of sampling a {@link TurnPath} into a geometry table.  Only the length of the
+ * scroll axis matters, so orientation is the only parameter.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class TurnPathBenchmark {
+
+    private static final int WIDTH = 1080;
+    private static final int HEIGHT = 1920;
+    private static final TurnPath SPLINE = TurnPath.catmullRom(
+            new float[]{-1, -0.5f, 0, 0.5f, 1},
+            new float[]{-150, 60, 120, 60, -150});
+
+    @Param({"true", "false"})
+    public boolean vertical;
+
+    /**
+     * Sampling a five point Catmull-Rom {@link TurnPath} into a geometry table.
+     */
+    @Benchmark
+    public TurnGeometry buildCatmullRom() {
+        return new TurnGeometry(vertical, true, SPLINE, WIDTH, HEIGHT);
+    }
+}
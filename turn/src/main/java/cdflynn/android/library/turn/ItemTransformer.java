@@ -0,0 +1,110 @@
+package cdflynn.android.library.turn;
+
+import android.view.View;
+
+import androidx.core.view.ViewCompat;
+
+/**
+ * Applies depth effects to each child of a {@link TurnLayoutManager}, from within the same pass that
+ * offsets and rotates it along the turn.  Transformers receive the values that pass has already
+ * computed, so no second traversal of the children or repeat of the turn math is needed.
+ *
+ * @see TurnLayoutManager#setItemTransformer(ItemTransformer)
+ */
+public interface ItemTransformer {
+
+    /**
+     * Called for every attached child each time the turn is applied, while scrolling, during layout
+     * and while radius or peek distance animate.
+     *
+     * @param child    The child to transform.
+     * @param distance The signed distance, in pixels along the scroll axis, from the apex of the turn
+     *                 to the center of {@code child}.  Negative before the apex.
+     * @param fraction {@code distance} as a fraction of half the length of the scroll axis, clamped
+     *                 to {@code [-1, 1]}.  {@code 0} at the apex.
+     * @param offset   The offset applied perpendicular to the scroll axis, in pixels.
+     * @param angle    The angle of the turn's tangent at the center of {@code child}, in degrees
+     *                 within {@code [-90, 90]}, regardless of whether children are rotated.
+     *                 Divide by {@code 90} for a normalized angle.
+     */
+    void transformItem(View child, float distance, float fraction, float offset, float angle);
+
+    /**
+     * Shrinks children linearly from full size at the apex to {@code minScale} at either edge.
+     */
+    class Scale implements ItemTransformer {
+
+        private final float minScale;
+
+        public Scale(float minScale) {
+            this.minScale = minScale;
+        }
+
+        @Override
+        public void transformItem(View child, float distance, float fraction, float offset, float angle) {
+            final float scale = 1 - (1 - minScale) * Math.abs(fraction);
+            child.setScaleX(scale);
+            child.setScaleY(scale);
+        }
+    }
+
+    /**
+     * Fades children linearly from fully opaque at the apex to {@code minAlpha} at either edge.
+     */
+    class Alpha implements ItemTransformer {
+
+        private final float minAlpha;
+
+        public Alpha(float minAlpha) {
+            this.minAlpha = minAlpha;
+        }
+
+        @Override
+        public void transformItem(View child, float distance, float fraction, float offset, float angle) {
+            child.setAlpha(1 - (1 - minAlpha) * Math.abs(fraction));
+        }
+    }
+
+    /**
+     * Raises children towards the apex, from no extra elevation at either edge to
+     * {@code maxElevation} pixels at the apex, so that overlapping items nearest the apex draw on
+     * top and cast the deepest shadow.
+     * <p>
+     * Requires API 21 or later.  Elevation is set through
+     * {@link ViewCompat#setTranslationZ(View, float)}, which does nothing on earlier versions, where
+     * overlapping children keep {@link androidx.recyclerview.widget.RecyclerView}'s drawing order
+     * and later children draw on top.
+     */
+    class Elevation implements ItemTransformer {
+
+        private final float maxElevation;
+
+        public Elevation(float maxElevation) {
+            this.maxElevation = maxElevation;
+        }
+
+        @Override
+        public void transformItem(View child, float distance, float fraction, float offset, float angle) {
+            ViewCompat.setTranslationZ(child, maxElevation * (1 - Math.abs(fraction)));
+        }
+    }
+
+    /**
+     * Applies several transformers in order, for example {@link Scale} together with {@link Alpha}.
+     */
+    class Composite implements ItemTransformer {
+
+        private final ItemTransformer[] transformers;
+
+        public Composite(ItemTransformer... transformers) {
+            this.transformers = transformers.clone();
+        }
+
+        @Override
+        public void transformItem(View child, float distance, float fraction, float offset, float angle) {
+            for (ItemTransformer transformer : transformers) {
+                transformer.transformItem(child, distance, fraction, offset, angle);
+            }
+        }
+    }
+}
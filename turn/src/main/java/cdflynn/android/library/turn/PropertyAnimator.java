@@ -0,0 +1,83 @@
+package cdflynn.android.library.turn;
+
+import android.animation.TimeInterpolator;
+import android.view.Choreographer;
+
+import androidx.annotation.Nullable;
+
+/**
+ * Drives a single integer property of a {@link TurnLayoutManager} from {@link Choreographer} frames,
+ * without going through a full layout on every tick.
+ */
+final class PropertyAnimator implements Choreographer.FrameCallback {
+
+    interface Target {
+        /**
+         * Called once per frame with the current value of the animation.
+         *
+         * @param finished True on the last frame, after which this animator is no longer running.
+         */
+        void onAnimatedValue(PropertyAnimator animator, int value, boolean finished);
+    }
+
+    private final Target target;
+    private int from;
+    private int to;
+    private long durationNanos;
+    private long startNanos;
+    @Nullable
+    private TimeInterpolator interpolator;
+    private boolean running;
+
+    PropertyAnimator(Target target) {
+        this.target = target;
+    }
+
+    /**
+     * Animate from {@code from} to {@code to}, replacing any animation already in progress.
+     *
+     * @param interpolator The easing curve, or {@code null} to animate linearly.
+     */
+    void start(int from, int to, long durationMs, @Nullable TimeInterpolator interpolator) {
+        cancel();
+        this.from = from;
+        this.to = to;
+        this.durationNanos = Math.max(durationMs, 0) * 1_000_000L;
+        this.startNanos = -1;
+        this.interpolator = interpolator;
+        this.running = true;
+        Choreographer.getInstance().postFrameCallback(this);
+    }
+
+    void cancel() {
+        if (running) {
+            Choreographer.getInstance().removeFrameCallback(this);
+            running = false;
+        }
+    }
+
+    boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public void doFrame(long frameTimeNanos) {
+        if (!running) {
+            return;
+        }
+        if (startNanos < 0) {
+            startNanos = frameTimeNanos;
+        }
+        final float fraction = durationNanos == 0 ? 1
+                : Math.min(1, (frameTimeNanos - startNanos) / (float) durationNanos);
+        final float eased = interpolator == null ? fraction : interpolator.getInterpolation(fraction);
+        final int value = Math.round(from + (to - from) * eased);
+        final boolean finished = fraction >= 1;
+        if (finished) {
+            running = false;
+        } else {
+            Choreographer.getInstance().postFrameCallback(this);
+        }
+        target.onAnimatedValue(this, finished ? to : value, finished);
+    }
+}
@@ -0,0 +1,344 @@
+package cdflynn.android.library.turn;
+
+/**
+ * The curve math behind a {@link TurnLayoutManager}, free of any Android dependency so it can be
+ * benchmarked and profiled on a plain JVM.
+ * <p>
+ * Each instance captures a single configuration, and precomputes a table with one entry per half
+ * pixel along the scroll axis.  The scroll path only performs array lookups instead of a
+ * {@code sqrt} and an {@code asin} per child.  Child centers always fall on a whole or half pixel,
+ * so a lookup lands exactly on the entry for that center, even where the curve is steep near the
+ * edge of the radius.  Positions outside of the table (children hanging off either edge) fall back
+ * to direct computation.
+ * <p>
+ * A geometry may also be built from a {@link TurnPath}, in which case the table is the only source
+ * of offsets and positions off either edge hold the nearest entry.
+ * <p>
+ * In fast mode, the math runs in {@code float} with a polynomial {@code asin}.  Across radii up to
+ * 10,000 pixels the offset stays within 0.01 pixels of exact, and the angle within 0.005 degrees.
+ */
+final class TurnGeometry {
+
+    private static final float RADIANS_TO_DEGREES = (float) (180 / Math.PI);
+    private static final float HALF_PI = (float) (Math.PI / 2);
+    /**
+     * Table entries per pixel along the scroll axis.
+     */
+    private static final int STEPS_PER_PIXEL = 2;
+
+    final boolean vertical;
+    final boolean gravityStart;
+    final int radius;
+    final int peekDistance;
+    final int width;
+    final int height;
+    final boolean fast;
+    /**
+     * A custom trajectory, or {@code null} for the circle defined by radius and peek distance.
+     */
+    final TurnPath path;
+
+    private final int apex;
+    private final int last;
+    private final float[] offsets;
+    private final float[] angles;
+    private final float edgeOffset;
+
+    /**
+     * Build the lookup table for a circle with the given settings.
+     *
+     * @param vertical     True if the list scrolls vertically.
+     * @param gravityStart True if items orbit a point beyond the start edge, false for the end edge.
+     * @param width        The width of the list, in pixels.
+     * @param height       The height of the list, in pixels.
+     * @param fast         Trade exactness for speed, within the bounds documented on this class.
+     */
+    TurnGeometry(boolean vertical,
+                 boolean gravityStart,
+                 int radius,
+                 int peekDistance,
+                 int width,
+                 int height,
+                 boolean fast) {
+        this(vertical, gravityStart, null, radius, peekDistance, width, height, fast);
+    }
+
+    /**
+     * Build the lookup table for {@code path}.
+     *
+     * @see #TurnGeometry(boolean, boolean, int, int, int, int, boolean)
+     */
+    TurnGeometry(boolean vertical, boolean gravityStart, TurnPath path, int width, int height) {
+        this(vertical, gravityStart, path, 0, 0, width, height, false);
+    }
+
+    private TurnGeometry(boolean vertical,
+                         boolean gravityStart,
+                         TurnPath path,
+                         int radius,
+                         int peekDistance,
+                         int width,
+                         int height,
+                         boolean fast) {
+        this.vertical = vertical;
+        this.gravityStart = gravityStart;
+        this.radius = radius;
+        this.peekDistance = peekDistance;
+        this.width = width;
+        this.height = height;
+        this.fast = fast;
+        this.path = path;
+        this.last = Math.max(vertical ? height : width, 0);
+        this.offsets = new float[last * STEPS_PER_PIXEL + 1];
+        this.angles = new float[last * STEPS_PER_PIXEL + 1];
+        if (path == null) {
+            // The circle peaks in the middle of the scroll axis.
+            this.apex = last / 2;
+            for (int index = 0; index < offsets.length; index++) {
+                final float position = index / (float) STEPS_PER_PIXEL;
+                offsets[index] = offset(fast, radius, position, apex, peekDistance);
+                angles[index] = angle(fast, radius, position, apex);
+            }
+            this.edgeOffset = peekDistance - radius;
+        } else {
+            // Paths are sampled per pixel, and filled in between.
+            final float[] sampledOffsets = new float[last + 1];
+            final float[] sampledAngles = new float[last + 1];
+            path.sample(last, sampledOffsets);
+            resolveAngles(sampledOffsets, sampledAngles);
+            subdivide(sampledOffsets, offsets);
+            subdivide(sampledAngles, angles);
+            this.apex = peak(sampledOffsets);
+            this.edgeOffset = minimum(sampledOffsets);
+        }
+    }
+
+    /**
+     * @return true if this table was built for exactly these settings, and can be reused.
+     */
+    boolean matches(boolean vertical,
+                    boolean gravityStart,
+                    TurnPath path,
+                    int radius,
+                    int peekDistance,
+                    int width,
+                    int height,
+                    boolean fast) {
+        if (this.vertical != vertical
+                || this.gravityStart != gravityStart
+                || this.width != width
+                || this.height != height) {
+            return false;
+        }
+        if (this.path != null || path != null) {
+            return this.path == path;
+        }
+        return this.radius == radius
+                && this.peekDistance == peekDistance
+                && this.fast == fast;
+    }
+
+    /**
+     * @return The position along the scroll axis at which the turn peaks.
+     */
+    int apex() {
+        return apex;
+    }
+
+    /**
+     * @return The offset at the far edge of the turn, where items beyond its defined range are
+     * parked.
+     */
+    float edgeOffset() {
+        return edgeOffset;
+    }
+
+    /**
+     * Find the absolute distance, perpendicular to the scroll axis, by which a view centered at
+     * {@code position} should offset to align with the turn.  The result is {@code NaN} when
+     * {@code position} lies beyond the radius.
+     *
+     * @param interpolate Interpolate linearly between neighboring table entries for positions off
+     *                    the half pixel grid, instead of rounding to the nearest entry.
+     */
+    float offsetAt(float position, boolean interpolate) {
+        if (position < 0 || position > last) {
+            if (path != null) {
+                return offsets[position < 0 ? 0 : offsets.length - 1];
+            }
+            return offset(fast, radius, position, apex, peekDistance);
+        }
+        return lookup(offsets, position, interpolate);
+    }
+
+    /**
+     * Find the angle, in degrees, of the turn's tangent at {@code position}.  The angle is
+     * negative before the apex and positive after it.
+     *
+     * @see #offsetAt(float, boolean)
+     */
+    float angleAt(float position, boolean interpolate) {
+        if (position < 0 || position > last) {
+            if (path != null) {
+                return angles[position < 0 ? 0 : angles.length - 1];
+            }
+            return angle(fast, radius, position, apex);
+        }
+        return lookup(angles, position, interpolate);
+    }
+
+    private static float lookup(float[] table, float position, boolean interpolate) {
+        final float step = position * STEPS_PER_PIXEL;
+        if (!interpolate) {
+            return table[(int) (step + 0.5f)];
+        }
+        final int index = (int) step;
+        if (index == table.length - 1) {
+            return table[index];
+        }
+        final float fraction = step - index;
+        return table[index] + (table[index + 1] - table[index]) * fraction;
+    }
+
+    /**
+     * Spread a table sampled once per pixel over {@code out}, interpolating the entries in between.
+     */
+    private static void subdivide(float[] sampled, float[] out) {
+        for (int index = 0; index < out.length; index++) {
+            final int position = index / STEPS_PER_PIXEL;
+            final int step = index % STEPS_PER_PIXEL;
+            if (step == 0) {
+                out[index] = sampled[position];
+            } else {
+                final float fraction = step / (float) STEPS_PER_PIXEL;
+                out[index] = sampled[position] + (sampled[position + 1] - sampled[position]) * fraction;
+            }
+        }
+    }
+
+    /**
+     * Derive the tangent angle at each position from the slope of neighboring offsets.  The angle
+     * is positive where the offset falls away, matching the sign convention of the circle.
+     */
+    private static void resolveAngles(float[] offsets, float[] out) {
+        final int last = offsets.length - 1;
+        if (last == 0) {
+            out[0] = 0;
+            return;
+        }
+        for (int position = 0; position <= last; position++) {
+            final int before = Math.max(position - 1, 0);
+            final int after = Math.min(position + 1, last);
+            final float slope = (offsets[after] - offsets[before]) / (after - before);
+            out[position] = (float) Math.toDegrees(Math.atan(-slope));
+        }
+    }
+
+    /**
+     * @return The position of the largest offset, where the turn peaks.  Ties resolve towards the
+     * middle of the scroll axis.
+     */
+    private static int peak(float[] offsets) {
+        final int middle = offsets.length / 2;
+        int peak = -1;
+        for (int position = 0; position < offsets.length; position++) {
+            final float offset = offsets[position];
+            if (Float.isNaN(offset)) {
+                continue;
+            }
+            if (peak < 0
+                    || offset > offsets[peak]
+                    || (offset == offsets[peak] && Math.abs(position - middle) < Math.abs(peak - middle))) {
+                peak = position;
+            }
+        }
+        return peak < 0 ? middle : peak;
+    }
+
+    /**
+     * @return The smallest defined offset, or zero if none is defined.
+     */
+    private static float minimum(float[] offsets) {
+        float minimum = Float.POSITIVE_INFINITY;
+        for (float offset : offsets) {
+            if (offset < minimum) {
+                minimum = offset;
+            }
+        }
+        return minimum == Float.POSITIVE_INFINITY ? 0 : minimum;
+    }
+
+    /**
+     * Compute an offset directly, without the table.
+     *
+     * @see #resolveOffset(double, double, int, int)
+     * @see #resolveOffsetFast(float, float, int, int)
+     */
+    static float offset(boolean fast, int radius, float position, int apex, int peekDistance) {
+        return fast ? resolveOffsetFast(radius, position, apex, peekDistance)
+                : (float) resolveOffset(radius, position, apex, peekDistance);
+    }
+
+    /**
+     * Compute an angle directly, without the table.
+     *
+     * @see #resolveAngle(double, double, int)
+     * @see #resolveAngleFast(float, float, int)
+     */
+    static float angle(boolean fast, int radius, float position, int apex) {
+        return fast ? resolveAngleFast(radius, position, apex)
+                : (float) resolveAngle(radius, position, apex);
+    }
+
+    /**
+     * Find the absolute distance by which a view at {@code position} should offset to align with
+     * a circle centered at {@code apex} with {@code radius}, accounting for {@code peekDistance}.
+     */
+    static double resolveOffset(double radius, double position, int apex, int peekDistance) {
+        final double opposite = Math.abs(apex - position);
+        final double radiusSquared = radius * radius;
+        final double oppositeSquared = opposite * opposite;
+        final double adjacentSideLength = Math.sqrt(radiusSquared - oppositeSquared);
+        return adjacentSideLength - radius + peekDistance;
+    }
+
+    /**
+     * Find the signed angle, in degrees, of a view at {@code position} on a circle centered at
+     * {@code apex} with {@code radius}.
+     */
+    static double resolveAngle(double radius, double position, int apex) {
+        return Math.toDegrees(Math.asin((position - apex) / radius));
+    }
+
+    /**
+     * A {@code float} version of {@link #resolveOffset(double, double, int, int)}.  Factoring the
+     * difference of squares keeps precision near the edge of the circle.
+     */
+    static float resolveOffsetFast(float radius, float position, int apex, int peekDistance) {
+        final float opposite = Math.abs(apex - position);
+        final float adjacentSideLength = (float) Math.sqrt((radius - opposite) * (radius + opposite));
+        return adjacentSideLength - radius + peekDistance;
+    }
+
+    /**
+     * A {@code float} version of {@link #resolveAngle(double, double, int)}, using
+     * {@link #fastAsin(float)}.
+     */
+    static float resolveAngleFast(float radius, float position, int apex) {
+        return fastAsin((position - apex) / radius) * RADIANS_TO_DEGREES;
+    }
+
+    /**
+     * Approximate {@link Math#asin(double)} with Abramowitz and Stegun 4.4.45, accurate to within
+     * 6.8e-5 radians (about 0.0039 degrees) over {@code [-1, 1]} once rounded to {@code float}.  Returns {@code NaN} outside of that range.
+     */
+    static float fastAsin(float x) {
+        final float abs = Math.abs(x);
+        if (!(abs <= 1)) {
+            return Float.NaN;
+        }
+        final float polynomial = 1.5707288f + abs * (-0.2121144f + abs * (0.0742610f + abs * -0.0187293f));
+        final float result = HALF_PI - (float) Math.sqrt(1 - abs) * polynomial;
+        return x < 0 ? -result : result;
+    }
+}
@@ -0,0 +1,114 @@
+package cdflynn.android.library.turn;
+
+/**
+ * A process-wide, bounded cache of {@link TurnGeometry} for the default circle, shared by every
+ * {@link TurnLayoutManager}.  Geometry is immutable, so lists with the same configuration (say, the
+ * rows of a feed of carousels) can share a single table, and binding another such list costs a
+ * lookup instead of a rebuild.
+ * <p>
+ * The cache holds a handful of entries, scanned linearly and evicted least recently used first.
+ * Hits allocate nothing.  Geometry is built outside of the lock, so a slow build on one thread never
+ * stalls lookups on another.
+ */
+final class TurnGeometryCache {
+
+    static final int CAPACITY = 8;
+
+    private static final TurnGeometry[] entries = new TurnGeometry[CAPACITY];
+    private static final long[] lastUsed = new long[CAPACITY];
+    private static long clock;
+    private static long hitCount;
+    private static long missCount;
+
+    private TurnGeometryCache() {
+    }
+
+    /**
+     * @return The cached geometry for this configuration, building and caching it on a miss.
+     * @see TurnGeometry#TurnGeometry(boolean, boolean, int, int, int, int, boolean)
+     */
+    static TurnGeometry obtain(boolean vertical,
+                               boolean gravityStart,
+                               int radius,
+                               int peekDistance,
+                               int width,
+                               int height,
+                               boolean fast) {
+        synchronized (TurnGeometryCache.class) {
+            final TurnGeometry cached = find(vertical, gravityStart, radius, peekDistance, width, height, fast);
+            if (cached != null) {
+                hitCount++;
+                return cached;
+            }
+            missCount++;
+        }
+        final TurnGeometry geometry = new TurnGeometry(vertical, gravityStart, radius, peekDistance, width, height, fast);
+        put(geometry);
+        return geometry;
+    }
+
+    /**
+     * Cache {@code geometry}, unless an equivalent entry was added in the meantime.
+     */
+    static synchronized void put(TurnGeometry geometry) {
+        if (geometry.path != null || find(geometry.vertical, geometry.gravityStart, geometry.radius,
+                geometry.peekDistance, geometry.width, geometry.height, geometry.fast) != null) {
+            return;
+        }
+        int eldest = 0;
+        for (int i = 1; i < CAPACITY; i++) {
+            if (lastUsed[i] < lastUsed[eldest]) {
+                eldest = i;
+            }
+        }
+        entries[eldest] = geometry;
+        lastUsed[eldest] = ++clock;
+    }
+
+    /**
+     * Build and cache the geometry for this configuration ahead of time, unless it is already
+     * cached.  Not counted as a hit or a miss.
+     */
+    static void prepare(boolean vertical,
+                        boolean gravityStart,
+                        int radius,
+                        int peekDistance,
+                        int width,
+                        int height,
+                        boolean fast) {
+        synchronized (TurnGeometryCache.class) {
+            if (find(vertical, gravityStart, radius, peekDistance, width, height, fast) != null) {
+                return;
+            }
+        }
+        put(new TurnGeometry(vertical, gravityStart, radius, peekDistance, width, height, fast));
+    }
+
+    static synchronized long hitCount() {
+        return hitCount;
+    }
+
+    static synchronized long missCount() {
+        return missCount;
+    }
+
+    /**
+     * Must be called while holding the lock.  Marks a matching entry as most recently used.
+     */
+    private static TurnGeometry find(boolean vertical,
+                                     boolean gravityStart,
+                                     int radius,
+                                     int peekDistance,
+                                     int width,
+                                     int height,
+                                     boolean fast) {
+        for (int i = 0; i < CAPACITY; i++) {
+            final TurnGeometry entry = entries[i];
+            if (entry != null && entry.matches(vertical, gravityStart, null, radius, peekDistance, width, height, fast)) {
+                lastUsed[i] = ++clock;
+                return entry;
+            }
+        }
+        return null;
+    }
+}
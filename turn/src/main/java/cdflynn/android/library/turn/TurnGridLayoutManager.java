@@ -0,0 +1,228 @@
+package cdflynn.android.library.turn;
+
+import android.content.Context;
+import android.view.View;
+
+import androidx.annotation.Dimension;
+import androidx.annotation.Nullable;
+import androidx.recyclerview.widget.GridLayoutManager;
+import androidx.recyclerview.widget.RecyclerView;
+
+/**
+ * A multi-lane variant of {@link TurnLayoutManager}, built on {@link GridLayoutManager}.  Each span
+ * is a lane that follows its own arc.  The arcs are concentric: they share the center of the turn,
+ * and the radius grows by the width of one lane for each lane further from the {@link TurnLayoutManager.Gravity}
+ * edge, so lanes never cross.
+ * <p>
+ * Items keep the position {@link GridLayoutManager} gives them, and the turn is applied as a
+ * translation perpendicular to the scroll axis, as in {@link TurnLayoutManager.OffsetMode#TRANSLATION}.
+ * Item animators that animate translation, as {@link androidx.recyclerview.widget.DefaultItemAnimator}
+ * and {@link TurnItemAnimator} do on moves, carry items off their lane while they run.  Offsets are
+ * applied again once they finish.
+ * Each lane reads its offsets and angles from a {@link TurnGeometry} table of its own, taken from the
+ * cache shared with {@link TurnLayoutManager} whenever the layout changes.  The distance from the apex
+ * is computed once per row and shared by every item in that row, so placing a row costs one table
+ * lookup per lane.
+ */
+public class TurnGridLayoutManager extends GridLayoutManager {
+
+    private static final int MIN_RADIUS = 0;
+    private static final int MIN_PEEK = 0;
+
+    @TurnLayoutManager.Gravity
+    private int gravity;
+    @Dimension
+    private int radius;
+    @Dimension
+    private int peekDistance;
+    private boolean rotate;
+    @TurnLayoutManager.Precision
+    private int precision = TurnLayoutManager.Precision.EXACT;
+    /**
+     * The geometry of each lane, nearest the {@link TurnLayoutManager.Gravity} edge first.
+     */
+    private TurnGeometry[] lanes = new TurnGeometry[0];
+    @Nullable
+    private RecyclerView recyclerView;
+    private boolean awaitingItemAnimations;
+    /**
+     * Re-applies offsets once the item animator has animated the translation away.
+     */
+    private final RecyclerView.ItemAnimator.ItemAnimatorFinishedListener itemAnimationsFinishedListener =
+            new RecyclerView.ItemAnimator.ItemAnimatorFinishedListener() {
+                @Override
+                public void onAnimationsFinished() {
+                    awaitingItemAnimations = false;
+                    setChildOffsets();
+                }
+            };
+
+    /**
+     * @param spanCount The number of lanes.
+     * @see TurnLayoutManager#TurnLayoutManager(Context, int, int, int, int, boolean)
+     */
+    public TurnGridLayoutManager(Context context,
+                                 int spanCount,
+                                 @TurnLayoutManager.Gravity int gravity,
+                                 @TurnLayoutManager.Orientation int orientation,
+                                 @Dimension int radius,
+                                 @Dimension int peekDistance,
+                                 boolean rotate) {
+        super(context, spanCount, orientation, false);
+        this.gravity = gravity;
+        this.radius = Math.max(radius, MIN_RADIUS);
+        this.peekDistance = Math.min(Math.max(peekDistance, MIN_PEEK), radius);
+        this.rotate = rotate;
+    }
+
+    /**
+     * @param radius The radius of the lane nearest the {@link TurnLayoutManager.Gravity} edge.
+     */
+    public void setRadius(@Dimension int radius) {
+        this.radius = Math.max(radius, MIN_RADIUS);
+        requestLayout();
+    }
+
+    public void setPeekDistance(@Dimension int peekDistance) {
+        this.peekDistance = Math.min(Math.max(peekDistance, MIN_PEEK), radius);
+        requestLayout();
+    }
+
+    public void setGravity(@TurnLayoutManager.Gravity int gravity) {
+        this.gravity = gravity;
+        requestLayout();
+    }
+
+    public void setRotate(boolean rotate) {
+        this.rotate = rotate;
+        requestLayout();
+    }
+
+    /**
+     * @see TurnLayoutManager#setPrecision(int)
+     */
+    public void setPrecision(@TurnLayoutManager.Precision int precision) {
+        this.precision = precision;
+        requestLayout();
+    }
+
+    @Override
+    public void onAttachedToWindow(RecyclerView view) {
+        super.onAttachedToWindow(view);
+        recyclerView = view;
+    }
+
+    @Override
+    public void onDetachedFromWindow(RecyclerView view, RecyclerView.Recycler recycler) {
+        super.onDetachedFromWindow(view, recycler);
+        recyclerView = null;
+    }
+
+    @Override
+    public int scrollVerticallyBy(int dy, RecyclerView.Recycler recycler, RecyclerView.State state) {
+        int by = super.scrollVerticallyBy(dy, recycler, state);
+        setChildOffsets();
+        return by;
+    }
+
+    @Override
+    public int scrollHorizontallyBy(int dx, RecyclerView.Recycler recycler, RecyclerView.State state) {
+        int by = super.scrollHorizontallyBy(dx, recycler, state);
+        setChildOffsets();
+        return by;
+    }
+
+    @Override
+    public void onLayoutChildren(RecyclerView.Recycler recycler, RecyclerView.State state) {
+        super.onLayoutChildren(recycler, state);
+        updateLanes();
+        setChildOffsets();
+    }
+
+    @Override
+    public void onLayoutCompleted(RecyclerView.State state) {
+        super.onLayoutCompleted(state);
+        if (recyclerView == null || awaitingItemAnimations) {
+            return;
+        }
+        // Animations for this layout are pending by now.
+        final RecyclerView.ItemAnimator itemAnimator = recyclerView.getItemAnimator();
+        if (itemAnimator != null && itemAnimator.isRunning()) {
+            awaitingItemAnimations = itemAnimator.isRunning(itemAnimationsFinishedListener);
+        }
+    }
+
+    /**
+     * Bring the geometry of each lane up to date with the current configuration and size.
+     */
+    private void updateLanes() {
+        if (getWidth() <= 0 || getHeight() <= 0) {
+            return;
+        }
+        final boolean vertical = getOrientation() == VERTICAL;
+        final boolean gravityStart = gravity == TurnLayoutManager.Gravity.START;
+        final boolean fast = precision == TurnLayoutManager.Precision.FAST;
+        final int spanCount = getSpanCount();
+        if (lanes.length != spanCount) {
+            lanes = new TurnGeometry[spanCount];
+        }
+        final float laneSize = (vertical
+                ? getWidth() - getPaddingLeft() - getPaddingRight()
+                : getHeight() - getPaddingTop() - getPaddingBottom()) / (float) spanCount;
+        for (int lane = 0; lane < spanCount; lane++) {
+            final int laneRadius = radius + Math.round(lane * laneSize);
+            final TurnGeometry geometry = lanes[lane];
+            if (geometry == null
+                    || !geometry.matches(vertical, gravityStart, null, laneRadius, peekDistance, getWidth(), getHeight(), fast)) {
+                lanes[lane] = TurnGeometryCache.obtain(vertical, gravityStart, laneRadius, peekDistance, getWidth(), getHeight(), fast);
+            }
+        }
+    }
+
+    /**
+     * Offset and rotate every child onto the arc of its lane.
+     */
+    private void setChildOffsets() {
+        final int spanCount = getSpanCount();
+        if (lanes.length != spanCount) {
+            // Not laid out yet, or the span count changed and a layout is on its way.
+            return;
+        }
+        final boolean vertical = getOrientation() == VERTICAL;
+        final int gravitySign = gravity == TurnLayoutManager.Gravity.START ? 1 : -1;
+        int previousSpanIndex = Integer.MAX_VALUE;
+        float position = 0;
+        for (int i = 0; i < getChildCount(); i++) {
+            View child = getChildAt(i);
+            if (child == null) continue;
+            final LayoutParams layoutParams = (LayoutParams) child.getLayoutParams();
+            final int spanIndex = layoutParams.getSpanIndex();
+            if (spanIndex <= previousSpanIndex) {
+                // The first item of a new row.  Its items share one position on the scroll axis.
+                position = vertical ? child.getTop() + child.getHeight() / 2.0f
+                        : child.getLeft() + child.getWidth() / 2.0f;
+            }
+            previousSpanIndex = spanIndex;
+            final TurnGeometry lane = lanes[gravitySign > 0 ? spanIndex : spanCount - spanIndex - layoutParams.getSpanSize()];
+            final float offset = lane.offsetAt(position, false);
+            final float translation = Float.isNaN(offset) ? 0 : gravitySign * offset;
+            if (vertical) {
+                if (child.getTranslationX() != translation) {
+                    child.setTranslationX(translation);
+                }
+            } else if (child.getTranslationY() != translation) {
+                child.setTranslationY(translation);
+            }
+            float rotation = 0;
+            if (rotate) {
+                final float angle = lane.angleAt(position, false);
+                if (!Float.isNaN(angle)) {
+                    rotation = vertical == (gravity == TurnLayoutManager.Gravity.END) ? -angle : angle;
+                }
+            }
+            if (child.getRotation() != rotation) {
+                child.setRotation(rotation);
+            }
+        }
+    }
+}
@@ -0,0 +1,211 @@
+package cdflynn.android.library.turn;
+
+import android.animation.Animator;
+import android.animation.AnimatorListenerAdapter;
+import android.animation.ValueAnimator;
+import android.view.View;
+import android.view.ViewParent;
+
+import androidx.annotation.Nullable;
+import androidx.recyclerview.widget.DefaultItemAnimator;
+import androidx.recyclerview.widget.RecyclerView;
+
+import java.util.ArrayList;
+
+/**
+ * A {@link DefaultItemAnimator} that moves the items of a {@link TurnLayoutManager} along the turn,
+ * instead of in a straight line that cuts across it.  Additions, removals and changes are animated
+ * as they are by {@link DefaultItemAnimator}.
+ * <p>
+ * Only the position of a moving item along the scroll axis is interpolated.  Its offset and
+ * rotation are looked up from the turn geometry at every frame, so the item follows the curve in
+ * every {@link TurnLayoutManager.OffsetMode}.  Because of that, the pre-layout pass only offsets the
+ * children that are being removed or changed, which keeps large range insertions cheap.
+ */
+public class TurnItemAnimator extends DefaultItemAnimator {
+
+    private final ArrayList<ArcMove> pendingMoves = new ArrayList<>();
+    private final ArrayList<ArcMove> runningMoves = new ArrayList<>();
+    private boolean pendingRemovals;
+
+    @Override
+    public boolean animateRemove(RecyclerView.ViewHolder holder) {
+        pendingRemovals = true;
+        return super.animateRemove(holder);
+    }
+
+    @Override
+    public boolean animateMove(RecyclerView.ViewHolder holder, int fromX, int fromY, int toX, int toY) {
+        final TurnLayoutManager layoutManager = getTurnLayoutManager(holder.itemView);
+        if (layoutManager == null) {
+            return super.animateMove(holder, fromX, fromY, toX, toY);
+        }
+        final View view = holder.itemView;
+        final boolean vertical = layoutManager.getOrientation() == RecyclerView.VERTICAL;
+        // Pick up from wherever an interrupted move left the item.
+        final float delta = vertical ? fromY - toY + view.getTranslationY() : fromX - toX + view.getTranslationX();
+        endAnimation(holder);
+        if (delta == 0) {
+            // Only the offset across the scroll axis differs, and the layout manager has applied it.
+            dispatchMoveFinished(holder);
+            return false;
+        }
+        final float to = vertical ? view.getTop() + view.getHeight() / 2.0f : view.getLeft() + view.getWidth() / 2.0f;
+        final ArcMove move = new ArcMove(holder, layoutManager, vertical, to + delta, to);
+        move.update(0);
+        pendingMoves.add(move);
+        return true;
+    }
+
+    @Override
+    public void runPendingAnimations() {
+        final boolean removals = pendingRemovals;
+        pendingRemovals = false;
+        super.runPendingAnimations();
+        if (pendingMoves.isEmpty()) {
+            return;
+        }
+        // Like DefaultItemAnimator, let removals play out before items move into their space.
+        final long delay = removals ? getRemoveDuration() : 0;
+        for (ArcMove move : pendingMoves) {
+            runningMoves.add(move);
+            move.start(delay);
+        }
+        pendingMoves.clear();
+    }
+
+    @Override
+    public void endAnimation(RecyclerView.ViewHolder item) {
+        for (int i = pendingMoves.size() - 1; i >= 0; i--) {
+            final ArcMove move = pendingMoves.get(i);
+            if (move.holder == item) {
+                pendingMoves.remove(i);
+                finish(move);
+            }
+        }
+        for (int i = runningMoves.size() - 1; i >= 0; i--) {
+            final ArcMove move = runningMoves.get(i);
+            if (move.holder == item) {
+                move.cancel();
+            }
+        }
+        super.endAnimation(item);
+    }
+
+    @Override
+    public void endAnimations() {
+        for (int i = pendingMoves.size() - 1; i >= 0; i--) {
+            finish(pendingMoves.remove(i));
+        }
+        for (int i = runningMoves.size() - 1; i >= 0; i--) {
+            runningMoves.get(i).cancel();
+        }
+        super.endAnimations();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return !pendingMoves.isEmpty() || !runningMoves.isEmpty() || super.isRunning();
+    }
+
+    /**
+     * Settle a move at its destination, handing the item back to the layout manager.
+     */
+    private void finish(ArcMove move) {
+        runningMoves.remove(move);
+        final View view = move.holder.itemView;
+        view.setTranslationX(0);
+        view.setTranslationY(0);
+        move.layoutManager.applyTurn(view);
+        dispatchMoveFinished(move.holder);
+        if (!isRunning()) {
+            dispatchAnimationsFinished();
+        }
+    }
+
+    @Nullable
+    private static TurnLayoutManager getTurnLayoutManager(View view) {
+        final ViewParent parent = view.getParent();
+        if (!(parent instanceof RecyclerView)) {
+            return null;
+        }
+        final RecyclerView.LayoutManager layoutManager = ((RecyclerView) parent).getLayoutManager();
+        return layoutManager instanceof TurnLayoutManager ? (TurnLayoutManager) layoutManager : null;
+    }
+
+    /**
+     * A single item moving along the turn, from one position on the scroll axis to another.
+     */
+    private final class ArcMove extends AnimatorListenerAdapter implements ValueAnimator.AnimatorUpdateListener {
+
+        final RecyclerView.ViewHolder holder;
+        final TurnLayoutManager layoutManager;
+        private final boolean vertical;
+        private final float from;
+        private final float to;
+        @Nullable
+        private ValueAnimator animator;
+        private boolean finished;
+
+        ArcMove(RecyclerView.ViewHolder holder, TurnLayoutManager layoutManager, boolean vertical, float from, float to) {
+            this.holder = holder;
+            this.layoutManager = layoutManager;
+            this.vertical = vertical;
+            this.from = from;
+            this.to = to;
+        }
+
+        void start(long delay) {
+            animator = ValueAnimator.ofFloat(0, 1);
+            animator.setDuration(getMoveDuration());
+            animator.setStartDelay(delay);
+            animator.addUpdateListener(this);
+            animator.addListener(this);
+            animator.start();
+        }
+
+        void cancel() {
+            if (animator != null) {
+                animator.cancel();
+            }
+        }
+
+        @Override
+        public void onAnimationUpdate(ValueAnimator animation) {
+            update(animation.getAnimatedFraction());
+        }
+
+        void update(float fraction) {
+            final View view = holder.itemView;
+            final float position = from + (to - from) * fraction;
+            if (vertical) {
+                view.setTranslationY(position - to);
+            } else {
+                view.setTranslationX(position - to);
+            }
+            if (layoutManager.isCanvasMode()) {
+                // The canvas transform already follows the translated position.
+                return;
+            }
+            if (vertical) {
+                view.setTranslationX(layoutManager.getTurnEdge(view, position) - view.getLeft());
+            } else {
+                view.setTranslationY(layoutManager.getTurnEdge(view, position) - view.getTop());
+            }
+            view.setRotation(layoutManager.getTurnRotation(position));
+        }
+
+        @Override
+        public void onAnimationStart(Animator animation) {
+            dispatchMoveStarting(holder);
+        }
+
+        @Override
+        public void onAnimationEnd(Animator animation) {
+            if (!finished) {
+                finished = true;
+                finish(this);
+            }
+        }
+    }
+}
@@ -1,14 +1,26 @@
 package cdflynn.android.library.turn;
 
+import android.animation.TimeInterpolator;
 import android.content.Context;
-import android.graphics.Point;
+import android.graphics.Matrix;
+import android.graphics.RectF;
 import android.os.Build;
+import android.os.Parcel;
+import android.os.Parcelable;
+import android.view.Choreographer;
 import androidx.annotation.Dimension;
 import androidx.annotation.IntDef;
+import androidx.annotation.Nullable;
+import androidx.core.os.TraceCompat;
+import androidx.customview.view.AbsSavedState;
 import androidx.recyclerview.widget.LinearLayoutManager;
 import androidx.recyclerview.widget.RecyclerView;
 import android.view.View;
 import android.view.ViewGroup;
+import android.view.ViewTreeObserver;
+
+import java.util.ArrayList;
+import java.util.concurrent.Executor;
 
 /**
  * An extension of {@link LinearLayoutManager}, where each list item can be offset along a circular
@@ -18,6 +30,13 @@ public class TurnLayoutManager extends LinearLayoutManager {
 
     private static final int MIN_RADIUS = 0;
     private static final int MIN_PEEK = 0;
+    /**
+     * Curve-aware prefetch looks this many frames ahead at the current scroll velocity.
+     */
+    private static final int PREFETCH_FRAMES = 2;
+    private static final int MAX_PREFETCH_ITEMS = 6;
+    private static final int DEFAULT_MAX_SCROLLING_LAYERS = 8;
+    private static final int DEFAULT_MAX_SCROLLING_LAYER_SIZE = 2048;
 
     /**
      * Valid gravity settings for a {@link TurnLayoutManager}.  This defines the direction of the center point
@@ -44,6 +63,190 @@ public class TurnLayoutManager extends LinearLayoutManager {
         int HORIZONTAL = RecyclerView.HORIZONTAL;
     }
 
+    /**
+     * How the turn offset is applied to each child.
+     * <br><br>
+     * {@link #LAYOUT} moves the child with {@link View#layout(int, int, int, int)}, snapping to
+     * whole pixels.<br>
+     * {@link #TRANSLATION} leaves the child where {@link LinearLayoutManager} placed it and applies
+     * the offset as a translation perpendicular to the scroll axis.  Translation is a render
+     * property, so no layout bounds are invalidated and sub-pixel offsets are preserved.  Touch
+     * dispatch and decorations that honor {@link View#getTranslationX()} follow the translated
+     * child, while {@link RecyclerView.LayoutManager#getDecoratedLeft(View)} and friends keep reporting linear bounds.<br>
+     * {@link #CANVAS} writes nothing to the children, beyond clearing a rotation or translation left
+     * over from another mode.  They stay exactly where {@link LinearLayoutManager} placed them, and
+     * a {@link TurnRecyclerView} applies the offset and rotation as a canvas transform when drawing
+     * each child.  It maps accessibility bounds, {@link RecyclerView#findChildViewUnder(float, float)}
+     * and touches dispatched directly to children to match, but not the events seen by the list
+     * itself or by {@link RecyclerView.OnItemTouchListener}s.  A scroll frame costs the linear scroll and the draw, and nothing else.
+     * Requires a {@link TurnRecyclerView}.  Item decorations keep drawing at linear bounds.
+     */
+    @IntDef(value = {
+            OffsetMode.LAYOUT,
+            OffsetMode.TRANSLATION,
+            OffsetMode.CANVAS
+    })
+    public @interface OffsetMode {
+        int LAYOUT = 0;
+        int TRANSLATION = 1;
+        int CANVAS = 2;
+    }
+
+    /**
+     * Numeric precision of the turn math.
+     * <br><br>
+     * {@link #EXACT} computes offsets and angles in {@code double}.<br>
+     * {@link #FAST} computes them in {@code float}, with a polynomial approximation of {@code asin}.
+     * Offsets stay within 0.01 pixels of {@link #EXACT} for radii up to 10,000 pixels, and angles
+     * within 0.005 degrees, well under what is visible once offsets are snapped to whole pixels.
+     */
+    @IntDef(value = {
+            Precision.EXACT,
+            Precision.FAST
+    })
+    public @interface Precision {
+        int EXACT = 0;
+        int FAST = 1;
+    }
+
+    /**
+     * Notified when a different item becomes the closest to the apex of the turn.  Called from
+     * within layout and scrolling, so the adapter must not be modified from this callback.
+     *
+     * @see #setOnApexItemChangedListener(OnApexItemChangedListener)
+     */
+    public interface OnApexItemChangedListener {
+
+        /**
+         * @param position The adapter position of the new apex item, or
+         *                 {@link RecyclerView#NO_POSITION} if the list is empty.
+         */
+        void onApexItemChanged(int position);
+    }
+
+    /**
+     * Receives the cost of each pass made by a {@link TurnLayoutManager}.
+     *
+     * @see #setMetrics(Metrics)
+     */
+    public interface Metrics {
+
+        /**
+         * The kinds of pass reported to {@link #onPass(int, long, int, int)}.
+         * <br><br>
+         * {@link #LAYOUT} is a full {@link TurnLayoutManager#onLayoutChildren(RecyclerView.Recycler, RecyclerView.State)}.<br>
+         * {@link #GEOMETRY} rebuilds the orbit center and lookup table after a configuration change.<br>
+         * {@link #OFFSETS} applies the turn offsets and rotations to attached children.<br>
+         * {@link #SCROLL} is the underlying {@link LinearLayoutManager} scroll, excluding offsets.
+         */
+        @IntDef(value = {
+                Pass.LAYOUT,
+                Pass.GEOMETRY,
+                Pass.OFFSETS,
+                Pass.SCROLL
+        })
+        @interface Pass {
+            int LAYOUT = 0;
+            int GEOMETRY = 1;
+            int OFFSETS = 2;
+            int SCROLL = 3;
+        }
+
+        /**
+         * Setters that request a full layout, reported to {@link #onLayoutRequested(int)}.
+         */
+        @IntDef(value = {
+                Cause.RADIUS,
+                Cause.PEEK_DISTANCE,
+                Cause.GRAVITY,
+                Cause.ROTATE
+        })
+        @interface Cause {
+            int RADIUS = 0;
+            int PEEK_DISTANCE = 1;
+            int GRAVITY = 2;
+            int ROTATE = 3;
+        }
+
+        /**
+         * @param durationNanos    Wall time spent in the pass.
+         * @param childCount       The number of attached children when the pass completed.
+         * @param outOfRadiusCount For {@link Pass#OFFSETS}, the number of children beyond the radius,
+         *                         where the turn has no defined offset.  Zero for other passes.
+         */
+        void onPass(@Pass int pass, long durationNanos, int childCount, int outOfRadiusCount);
+
+        /**
+         * A full layout ran to apply a configuration set through a setter.  Reported once per
+         * layout, before its {@link Pass#LAYOUT} pass, with the last setter called ahead of it.
+         */
+        void onLayoutRequested(@Cause int cause);
+    }
+
+    /**
+     * The state saved by {@link TurnLayoutManager#onSaveInstanceState()}: the turn configuration,
+     * and the item at the apex along with its distance from the apex, on top of the state of
+     * {@link LinearLayoutManager}.
+     */
+    public static class SavedState extends AbsSavedState {
+
+        @Gravity
+        int gravity;
+        int radius;
+        int peekDistance;
+        boolean rotate;
+        int anchorPosition = RecyclerView.NO_POSITION;
+        float anchorDistance;
+
+        SavedState(Parcelable superState) {
+            super(superState);
+        }
+
+        SavedState(Parcel source, @Nullable ClassLoader loader) {
+            super(source, loader != null ? loader : TurnLayoutManager.class.getClassLoader());
+            gravity = source.readInt();
+            radius = source.readInt();
+            peekDistance = source.readInt();
+            rotate = source.readInt() != 0;
+            anchorPosition = source.readInt();
+            anchorDistance = source.readFloat();
+        }
+
+        @Override
+        public void writeToParcel(Parcel dest, int flags) {
+            super.writeToParcel(dest, flags);
+            dest.writeInt(gravity);
+            dest.writeInt(radius);
+            dest.writeInt(peekDistance);
+            dest.writeInt(rotate ? 1 : 0);
+            dest.writeInt(anchorPosition);
+            dest.writeFloat(anchorDistance);
+        }
+
+        public static final Creator<SavedState> CREATOR = new ClassLoaderCreator<SavedState>() {
+            @Override
+            public SavedState createFromParcel(Parcel source, ClassLoader loader) {
+                return new SavedState(source, loader);
+            }
+
+            @Override
+            public SavedState createFromParcel(Parcel source) {
+                return new SavedState(source, null);
+            }
+
+            @Override
+            public SavedState[] newArray(int size) {
+                return new SavedState[size];
+            }
+        };
+    }
+
+    private static final String SECTION_LAYOUT = "TurnLayoutManager.onLayoutChildren";
+    private static final String SECTION_GEOMETRY = "TurnLayoutManager.geometry";
+    private static final String SECTION_OFFSETS = "TurnLayoutManager.offsets";
+    private static final String SECTION_SCROLL = "TurnLayoutManager.scroll";
+    private static final int NO_LAYOUT_CAUSE = -1;
+
     @Gravity
     private int gravity;
     @Dimension
@@ -51,7 +254,122 @@ public class TurnLayoutManager extends LinearLayoutManager {
     @Dimension
     private int peekDistance;
     private boolean rotate;
-    private Point center;
+    private boolean interpolateOffsets;
+    @OffsetMode
+    private int offsetMode = OffsetMode.LAYOUT;
+    private boolean cullOffArcItems;
+    @Nullable
+    private TurnPath turnPath;
+    @Nullable
+    private ItemTransformer itemTransformer;
+    @Precision
+    private int precision = Precision.EXACT;
+    private boolean deferOffsets;
+    private boolean curveAwarePrefetch;
+    private int prefetchItemCount;
+    private int rotatedExtraLayoutSpace;
+    private boolean scrollingLayers;
+    private int maxScrollingLayers = DEFAULT_MAX_SCROLLING_LAYERS;
+    @Dimension
+    private int maxScrollingLayerSize = DEFAULT_MAX_SCROLLING_LAYER_SIZE;
+    private boolean scrolling;
+    private final ArrayList<View> layerChildren = new ArrayList<>(DEFAULT_MAX_SCROLLING_LAYERS);
+    private long layerPromotionCount;
+    private long layerDemotionCount;
+    private boolean awaitingItemAnimations;
+    /**
+     * Re-applies offsets in {@link OffsetMode#TRANSLATION} once an item animator other than
+     * {@link TurnItemAnimator} has animated the translation away.
+     */
+    private final RecyclerView.ItemAnimator.ItemAnimatorFinishedListener itemAnimationsFinishedListener =
+            new RecyclerView.ItemAnimator.ItemAnimatorFinishedListener() {
+                @Override
+                public void onAnimationsFinished() {
+                    awaitingItemAnimations = false;
+                    if (offsetMode == OffsetMode.TRANSLATION) {
+                        setChildOffsets(gravity, getOrientation());
+                    }
+                }
+            };
+    private final RecyclerView.OnChildAttachStateChangeListener layerListener = new RecyclerView.OnChildAttachStateChangeListener() {
+        @Override
+        public void onChildViewAttachedToWindow(View view) {
+            // Not measured yet.  Promoted from the next offset pass instead.
+        }
+
+        @Override
+        public void onChildViewDetachedFromWindow(View view) {
+            demoteLayer(view);
+        }
+    };
+    private boolean offsetsDirty;
+    @Nullable
+    private OnApexItemChangedListener onApexItemChangedListener;
+    private int apexItemPosition = RecyclerView.NO_POSITION;
+    private float apexItemAngle;
+    @Nullable
+    private View apexCandidate;
+    private float apexCandidateDistance;
+    private float apexCandidatePosition;
+    private boolean fastScrollMode;
+    private int pendingAnchorPosition = RecyclerView.NO_POSITION;
+    private float pendingAnchorDistance;
+    private int pendingScrollPosition = RecyclerView.NO_POSITION;
+    private int pendingScrollOffset;
+    private boolean pendingScrollHasOffset;
+    private long coalescedScrollCount;
+    private double measuredItemSize;
+    private long measuredItemCount;
+    private final Choreographer.FrameCallback pendingScrollCallback = new Choreographer.FrameCallback() {
+        @Override
+        public void doFrame(long frameTimeNanos) {
+            applyPendingScroll();
+        }
+    };
+    @Nullable
+    private RecyclerView recyclerView;
+    private final ViewTreeObserver.OnPreDrawListener preDrawListener = new ViewTreeObserver.OnPreDrawListener() {
+        @Override
+        public boolean onPreDraw() {
+            applyDeferredOffsets();
+            return true;
+        }
+    };
+    private TurnGeometry geometry;
+    private final Matrix offArcMatrix = new Matrix();
+    private final RectF offArcBounds = new RectF();
+    private long offsetPassCount;
+    private long appliedWriteCount;
+    private long skippedWriteCount;
+    @Nullable
+    private Metrics metrics;
+    private boolean tracing;
+    private int outOfRadiusCount;
+    /**
+     * The setter behind the layout requested most recently, reported once that layout runs.
+     */
+    private int pendingLayoutCause = NO_LAYOUT_CAUSE;
+    private final PropertyAnimator.Target animationTarget = new PropertyAnimator.Target() {
+        @Override
+        public void onAnimatedValue(PropertyAnimator animator, int value, boolean finished) {
+            if (animator == radiusAnimator) {
+                radius = Math.max(value, MIN_RADIUS);
+            } else if (animator == peekAnimator) {
+                peekDistance = Math.min(Math.max(value, MIN_PEEK), radius);
+            }
+            if (isAnimating()) {
+                setChildOffsets(gravity, getOrientation());
+                if (offsetMode == OffsetMode.CANVAS && recyclerView != null) {
+                    recyclerView.invalidate();
+                }
+            } else {
+                // Settle once at the end, rebuilding the geometry table for the final values.
+                requestLayout();
+            }
+        }
+    };
+    private final PropertyAnimator radiusAnimator = new PropertyAnimator(animationTarget);
+    private final PropertyAnimator peekAnimator = new PropertyAnimator(animationTarget);
 
     /**
      * Define a new {@link TurnLayoutManager} with the given settings.<br>
@@ -136,7 +454,6 @@ public class TurnLayoutManager extends LinearLayoutManager {
         this.radius = Math.max(radius, MIN_RADIUS);
         this.peekDistance = Math.min(Math.max(peekDistance, MIN_PEEK), radius);
         this.rotate = rotate;
-        this.center = new Point();
     }
 
     /**
@@ -150,195 +467,1491 @@ public class TurnLayoutManager extends LinearLayoutManager {
     }
 
     public void setRadius(int radius) {
+        radiusAnimator.cancel();
         this.radius = Math.max(radius, MIN_RADIUS);
-        requestLayout();
+        requestLayout(Metrics.Cause.RADIUS);
     }
 
     public void setPeekDistance(int peekDistance) {
+        peekAnimator.cancel();
         this.peekDistance = Math.min(Math.max(peekDistance, MIN_PEEK), radius);
-        requestLayout();
+        requestLayout(Metrics.Cause.PEEK_DISTANCE);
+    }
+
+    /**
+     * Animate the radius towards {@code radius}, starting from its current value.
+     * <p>
+     * Unlike {@link #setRadius(int)}, intermediate frames don't request a layout.  Each frame only
+     * re-runs the offset pass over attached children, at about the cost of a scroll frame.  A single
+     * layout is requested once the animation ends.
+     *
+     * @param interpolator The easing curve, or {@code null} to animate linearly.
+     */
+    public void animateRadius(@Dimension int radius, long durationMs, @Nullable TimeInterpolator interpolator) {
+        radiusAnimator.start(this.radius, Math.max(radius, MIN_RADIUS), durationMs, interpolator);
+    }
+
+    /**
+     * Animate the peek distance towards {@code peekDistance}, starting from its current value.
+     *
+     * @see #animateRadius(int, long, TimeInterpolator)
+     */
+    public void animatePeekDistance(@Dimension int peekDistance, long durationMs, @Nullable TimeInterpolator interpolator) {
+        peekAnimator.start(this.peekDistance, Math.max(peekDistance, MIN_PEEK), durationMs, interpolator);
+    }
+
+    /**
+     * Build the geometry for an upcoming configuration on {@code executor}, off the main thread.
+     * Use it ahead of changes that can be predicted, such as the target of a radius change or the
+     * size of the list after a rotation or a fold.
+     * <p>
+     * The geometry is built for the current orientation, gravity and precision, and placed in the
+     * cache shared by all layout managers.  The first layout that needs it picks it up.  A layout
+     * that runs before it is ready builds the geometry itself, as usual.  Has no effect while a
+     * {@link TurnPath} is set.
+     *
+     * @param width  The width of the list in the upcoming configuration, in pixels.
+     * @param height The height of the list in the upcoming configuration, in pixels.
+     * @see #getGeometryCacheHitCount()
+     */
+    public void prefetchGeometry(@Dimension int radius,
+                                 @Dimension int peekDistance,
+                                 @Dimension final int width,
+                                 @Dimension final int height,
+                                 Executor executor) {
+        if (turnPath != null) {
+            return;
+        }
+        final boolean vertical = getOrientation() == VERTICAL;
+        final boolean gravityStart = gravity == Gravity.START;
+        final boolean fast = precision == Precision.FAST;
+        final int clampedRadius = Math.max(radius, MIN_RADIUS);
+        final int clampedPeekDistance = Math.min(Math.max(peekDistance, MIN_PEEK), clampedRadius);
+        executor.execute(new Runnable() {
+            @Override
+            public void run() {
+                TurnGeometryCache.prepare(vertical, gravityStart, clampedRadius, clampedPeekDistance, width, height, fast);
+            }
+        });
     }
 
     public void setGravity(@Gravity int gravity) {
         this.gravity = gravity;
-        requestLayout();
+        requestLayout(Metrics.Cause.GRAVITY);
     }
 
     public void setRotate(boolean rotate) {
         this.rotate = rotate;
+        requestLayout(Metrics.Cause.ROTATE);
+    }
+
+    /**
+     * Offsets and rotations are read from a table with one entry per half pixel along the scroll
+     * axis, which holds the exact value for any child centered on a whole or half pixel.  By default
+     * a center off that grid, as during a translation animation, is rounded to the nearest entry.
+     * Enable interpolation to blend between neighboring entries instead, at the cost of a few extra
+     * operations per child.
+     */
+    public void setInterpolateOffsets(boolean interpolateOffsets) {
+        this.interpolateOffsets = interpolateOffsets;
         requestLayout();
     }
 
-    @Override
-    public int scrollVerticallyBy(int dy, RecyclerView.Recycler recycler, RecyclerView.State state) {
-        int by = super.scrollVerticallyBy(dy, recycler, state);
-        setChildOffsetsVertical(gravity, radius, center, peekDistance);
-        return by;
+    /**
+     * Choose how the turn offset is applied to children.  Defaults to {@link OffsetMode#LAYOUT}.
+     * <p>
+     * In {@link OffsetMode#TRANSLATION} the perpendicular translation belongs to this layout manager.
+     * Item animators that animate it, as {@link androidx.recyclerview.widget.DefaultItemAnimator}
+     * does on moves, carry items off the turn while they run, and offsets are applied again once
+     * they finish.  Use a {@link TurnItemAnimator} to keep moving items on the turn throughout.
+     * <p>
+     * {@link OffsetMode#CANVAS} only takes effect in a {@link TurnRecyclerView}.
+     */
+    public void setOffsetMode(@OffsetMode int offsetMode) {
+        if (this.offsetMode == offsetMode) {
+            return;
+        }
+        this.offsetMode = offsetMode;
+        resetChildTranslation();
+        requestLayout();
+    }
+
+    /**
+     * Enable culling of items that the turn pushes entirely out of view.
+     * <p>
+     * {@link LinearLayoutManager} fills and recycles by straight-line extents, so items near either
+     * end of the list stay attached, bound and drawn even though the curve has already carried them
+     * off-screen.  With culling enabled, those items are recycled as soon as their curved (and
+     * rotated) bounds leave the list while scrolling away from them, rather than when their
+     * straight-line bounds do.  Layout still fills by straight-line extents, and culling only acts
+     * on the trailing edge, so that it never removes an item that the next fill would add straight
+     * back.  Items beyond the radius, where the turn has no defined offset, are parked at the edge
+     * of the circle instead of falling back to no offset at all.
+     * <p>
+     * Culled items are still within their straight-line extent, so {@link LinearLayoutManager}
+     * adds them back as soon as the scroll reverses towards them.  Those that are still held by
+     * {@link RecyclerView}'s view cache come back without being bound again.
+     */
+    public void setCullOffArcItems(boolean cullOffArcItems) {
+        this.cullOffArcItems = cullOffArcItems;
+        requestLayout();
+    }
+
+    /**
+     * Defer the offset pass triggered by scrolling until just before the next draw.
+     * <p>
+     * Nested scrolling, flings and programmatic scrolls can scroll this layout manager several times
+     * within a single frame, and only the last offset pass is ever rendered.  With deferral enabled,
+     * scrolling only marks offsets as dirty, and the curve is applied once per frame from a pre-draw
+     * hook.  Layout passes still apply offsets immediately.  Between a scroll and the next draw,
+     * children report their linear scroll position but their previous perpendicular offset.
+     */
+    public void setDeferOffsets(boolean deferOffsets) {
+        if (this.deferOffsets == deferOffsets) {
+            return;
+        }
+        this.deferOffsets = deferOffsets;
+        if (recyclerView != null) {
+            if (deferOffsets) {
+                recyclerView.getViewTreeObserver().addOnPreDrawListener(preDrawListener);
+            } else {
+                recyclerView.getViewTreeObserver().removeOnPreDrawListener(preDrawListener);
+                applyDeferredOffsets();
+            }
+        }
+    }
+
+    /**
+     * @return The number of times child offsets have been applied since this layout manager was
+     * created.  Useful to confirm how many offset passes run per frame.
+     */
+    public long getOffsetPassCount() {
+        return offsetPassCount;
+    }
+
+    /**
+     * Offset items along {@code turnPath} instead of the circle defined by radius and peek distance.
+     * Pass {@code null} to return to the circle.
+     * <p>
+     * The path is sampled into the geometry table on the next layout, and again only when gravity,
+     * orientation or size change.  While it is set, radius, peek distance and precision have no
+     * effect.
+     *
+     * @see TurnPath
+     */
+    public void setTurnPath(@Nullable TurnPath turnPath) {
+        this.turnPath = turnPath;
+        requestLayout();
+    }
+
+    /**
+     * Apply depth effects such as scale, alpha or elevation to each child, from within the pass that
+     * offsets it along the turn.  Pass {@code null} to stop; properties already set by the previous
+     * transformer are left as they are.
+     * <p>
+     * Elevation and the z-order it implies need API 21 or later, see {@link ItemTransformer.Elevation}.
+     *
+     * @see ItemTransformer.Scale
+     * @see ItemTransformer.Alpha
+     * @see ItemTransformer.Elevation
+     */
+    public void setItemTransformer(@Nullable ItemTransformer itemTransformer) {
+        this.itemTransformer = itemTransformer;
+        requestLayout();
+    }
+
+    /**
+     * Choose the numeric precision of the turn math.  Defaults to {@link Precision#EXACT}.
+     * <p>
+     * The geometry table is built with this precision, and it also applies wherever offsets are
+     * computed directly: during radius and peek animations, and for children hanging off either
+     * edge of the list.  Scrolling within the list only reads the table, whatever the precision,
+     * so {@link Precision#FAST} speeds up building the table, radius and peek animation frames, and
+     * children off either edge, not steady scrolling.
+     */
+    public void setPrecision(@Precision int precision) {
+        this.precision = precision;
+        requestLayout();
+    }
+
+    /**
+     * The item closest to the apex is tracked by every offset pass, as each child's distance from
+     * the apex is already known there.  Reading it costs no traversal of the children.
+     *
+     * @return The adapter position of the item closest to the apex as of the last offset pass, or
+     * {@link RecyclerView#NO_POSITION} if there is none.
+     * @see #setOnApexItemChangedListener(OnApexItemChangedListener)
+     */
+    public int findApexItemPosition() {
+        return apexItemPosition;
+    }
+
+    /**
+     * @return The angle, in degrees, of the turn's tangent at the center of the apex item.  Zero
+     * when the item is centered exactly at the apex, and growing in magnitude as it moves away, so
+     * it measures how far the list is from settling on the item.
+     * @see #findApexItemPosition()
+     */
+    public float getApexItemAngle() {
+        return apexItemAngle;
+    }
+
+    /**
+     * Be notified from the offset pass when a different item becomes the closest to the apex, or
+     * stop with {@code null}.  The listener is not called while the apex item stays the same.
+     */
+    public void setOnApexItemChangedListener(@Nullable OnApexItemChangedListener onApexItemChangedListener) {
+        this.onApexItemChangedListener = onApexItemChangedListener;
+    }
+
+    /**
+     * Report the cost of each pass to {@code metrics}, or stop reporting with {@code null}.  When no
+     * listener is set, no timestamps are taken.
+     */
+    public void setMetrics(@Nullable Metrics metrics) {
+        this.metrics = metrics;
+    }
+
+    /**
+     * Wrap layout, geometry, offset and scroll passes in {@link android.os.Trace} sections, so they
+     * show up in systrace and Perfetto captures.  Disabled by default.
+     */
+    public void setTracingEnabled(boolean tracing) {
+        this.tracing = tracing;
+    }
+
+    /**
+     * Each child's offset and rotation is compared against the view's current state before it is
+     * written, so children at the apex of the turn, or scrolls that don't move a child along the
+     * curve, cost no layout or property writes.  Because the comparison reads the view itself,
+     * recycled and rebound views are always checked against their real position.
+     *
+     * @return The number of offset and rotation writes applied to children since this layout
+     * manager was created.
+     * @see #getSkippedWriteCount()
+     */
+    public long getAppliedWriteCount() {
+        return appliedWriteCount;
+    }
+
+    /**
+     * @return The number of offset and rotation writes skipped because the child already had the
+     * computed value.
+     * @see #getAppliedWriteCount()
+     */
+    public long getSkippedWriteCount() {
+        return skippedWriteCount;
+    }
+
+    /**
+     * The geometry of the default circle is immutable, and shared between every
+     * {@link TurnLayoutManager} in the process through a small least recently used cache keyed by
+     * orientation, gravity, radius, peek distance, precision and size.  Lists that share a
+     * configuration, like the rows of a feed of carousels, build it only once.
+     *
+     * @return The number of layouts that found their geometry in the shared cache.
+     * @see #getGeometryCacheMissCount()
+     */
+    public static long getGeometryCacheHitCount() {
+        return TurnGeometryCache.hitCount();
+    }
+
+    /**
+     * @return The number of layouts that had to build their geometry.  Geometry for a
+     * {@link TurnPath} is never cached, and isn't counted.
+     * @see #getGeometryCacheHitCount()
+     */
+    public static long getGeometryCacheMissCount() {
+        return TurnGeometryCache.missCount();
+    }
+
+    /**
+     * Size prefetch and extra layout space for the turn.
+     * <p>
+     * With rotation enabled, the corners of an item entering the list become visible before its
+     * straight-line bounds do.  {@link LinearLayoutManager} only lays out and prefetches by
+     * straight-line bounds, so such items are bound in the middle of a scroll frame, typically at
+     * the start of a fast fling.  With curve-aware prefetch enabled, this layout manager:
+     * <ul>
+     * <li>reserves extra layout space at each edge, so items are laid out as soon as their rotated
+     * corners can be seen, and</li>
+     * <li>registers enough upcoming items with {@link RecyclerView}'s prefetcher to cover the next
+     * two frames at the current scroll velocity, so they are bound during
+     * idle time in earlier frames.</li>
+     * </ul>
+     * Disabled by default.
+     *
+     * @see #getPrefetchItemCount()
+     * @see #getRotatedExtraLayoutSpace()
+     */
+    public void setCurveAwarePrefetch(boolean curveAwarePrefetch) {
+        this.curveAwarePrefetch = curveAwarePrefetch;
+        requestLayout();
+    }
+
+    /**
+     * @return The number of upcoming items registered with the prefetcher on the last scroll,
+     * including the one {@link LinearLayoutManager} registers itself.
+     * @see #setCurveAwarePrefetch(boolean)
+     */
+    public int getPrefetchItemCount() {
+        return prefetchItemCount;
+    }
+
+    /**
+     * @return The extra layout space, in pixels, last reserved beyond both edges of the list for
+     * rotated corners.
+     * @see #setCurveAwarePrefetch(boolean)
+     */
+    public int getRotatedExtraLayoutSpace() {
+        return rotatedExtraLayoutSpace;
     }
 
     @Override
-    public int scrollHorizontallyBy(int dx, RecyclerView.Recycler recycler, RecyclerView.State state) {
-        int by = super.scrollHorizontallyBy(dx, recycler, state);
-        setChildOffsetsHorizontal(gravity, radius, center, peekDistance);
-        return by;
+    protected void calculateExtraLayoutSpace(RecyclerView.State state, int[] extraLayoutSpace) {
+        super.calculateExtraLayoutSpace(state, extraLayoutSpace);
+        if (!curveAwarePrefetch || geometry == null || getChildCount() == 0) {
+            rotatedExtraLayoutSpace = 0;
+            return;
+        }
+        final View first = getChildAt(0);
+        final View last = getChildAt(getChildCount() - 1);
+        final int length = getOrientation() == VERTICAL ? getHeight() : getWidth();
+        final int startProtrusion = getRotatedProtrusion(getReverseLayout() ? last : first, 0);
+        final int endProtrusion = getRotatedProtrusion(getReverseLayout() ? first : last, length);
+        extraLayoutSpace[0] += startProtrusion;
+        extraLayoutSpace[1] += endProtrusion;
+        rotatedExtraLayoutSpace = Math.max(startProtrusion, endProtrusion);
     }
 
-    @SuppressWarnings("ConstantConditions")
     @Override
-    public void onLayoutChildren(RecyclerView.Recycler recycler, RecyclerView.State state) {
-        super.onLayoutChildren(recycler, state);
-        this.center = deriveCenter(gravity, getOrientation(), radius, peekDistance, center);
-        setChildOffsets(gravity, getOrientation(), radius, center, peekDistance);
-    }
-
-    /**
-     * Accounting for the settings of {@link Gravity} and {@link Orientation}, find the center point
-     * around which this layout manager should arrange list items.  Place the resulting coordinates
-     * into {@code out}, to avoid reallocation.
-     */
-    @SuppressWarnings("DuplicateExpressions")
-    private Point deriveCenter(@Gravity int gravity,
-                               int orientation,
-                               @Dimension int radius,
-                               @Dimension int peekDistance,
-                               Point out) {
-        final int gravitySign = gravity == Gravity.START ? -1 : 1;
-        final int distanceMultiplier = gravity == Gravity.START ? 0 : 1;
-        int x, y;
-        switch (orientation) {
-            case Orientation.HORIZONTAL:
-                y = (distanceMultiplier * getHeight()) + gravitySign * (Math.abs(radius - peekDistance));
-                x = getWidth() / 2;
-                break;
-            case Orientation.VERTICAL:
-            default:
-                y = getHeight() / 2;
-                x = (distanceMultiplier * getWidth()) + gravitySign * (Math.abs(radius - peekDistance));
+    public void collectAdjacentPrefetchPositions(int dx,
+                                                 int dy,
+                                                 RecyclerView.State state,
+                                                 LayoutPrefetchRegistry layoutPrefetchRegistry) {
+        super.collectAdjacentPrefetchPositions(dx, dy, state, layoutPrefetchRegistry);
+        final int delta = getOrientation() == VERTICAL ? dy : dx;
+        if (!curveAwarePrefetch || geometry == null || getChildCount() == 0 || delta == 0) {
+            prefetchItemCount = getChildCount() == 0 || delta == 0 ? 0 : 1;
+            return;
+        }
+        // Mirror LinearLayoutManager's choice of the child closest to the edge items scroll in from.
+        final boolean towardsEnd = delta > 0;
+        final View edgeChild = getChildAt(towardsEnd == getReverseLayout() ? 0 : getChildCount() - 1);
+        if (edgeChild == null) {
+            return;
+        }
+        final int itemDirection = towardsEnd != getReverseLayout() ? 1 : -1;
+        final boolean vertical = getOrientation() == VERTICAL;
+        final RecyclerView.LayoutParams layoutParams = (RecyclerView.LayoutParams) edgeChild.getLayoutParams();
+        final int itemSize = vertical
+                ? getDecoratedMeasuredHeight(edgeChild) + layoutParams.topMargin + layoutParams.bottomMargin
+                : getDecoratedMeasuredWidth(edgeChild) + layoutParams.leftMargin + layoutParams.rightMargin;
+        if (itemSize <= 0) {
+            prefetchItemCount = 1;
+            return;
+        }
+        final int protrusion = getRotatedProtrusion(edgeChild, towardsEnd ? (vertical ? getHeight() : getWidth()) : 0);
+        // How far the edge child extends beyond the list, which LinearLayoutManager reports as the
+        // distance to the next item.
+        final int scrollingOffset = towardsEnd
+                ? (vertical ? getDecoratedBottom(edgeChild) + layoutParams.bottomMargin - (getHeight() - getPaddingBottom())
+                : getDecoratedRight(edgeChild) + layoutParams.rightMargin - (getWidth() - getPaddingRight()))
+                : (vertical ? getPaddingTop() - getDecoratedTop(edgeChild) + layoutParams.topMargin
+                : getPaddingLeft() - getDecoratedLeft(edgeChild) + layoutParams.leftMargin);
+        final int window = Math.abs(delta) * PREFETCH_FRAMES + protrusion;
+        final int count = Math.min(Math.max(1, (window + itemSize - 1) / itemSize), MAX_PREFETCH_ITEMS);
+        final int edgePosition = getPosition(edgeChild);
+        prefetchItemCount = 1;
+        for (int i = 1; i < count; i++) {
+            final int position = edgePosition + itemDirection * (i + 1);
+            if (position < 0 || position >= state.getItemCount()) {
                 break;
+            }
+            layoutPrefetchRegistry.addPosition(position, Math.max(0, scrollingOffset - protrusion + i * itemSize));
+            prefetchItemCount++;
         }
-        out.set(x, y);
-        return out;
     }
 
     /**
-     * Find the absolute horizontal distance by which a view at {@code viewY} should offset
-     * to align with the circle {@code center} with {@code radius}, accounting for {@code peekDistance}.
+     * Smoothly scroll so that the item at {@code position} settles at the apex of the turn.
+     *
+     * @see TurnSmoothScroller
      */
-    private double resolveOffsetX(double radius, double viewY, Point center, int peekDistance) {
-        final double opposite = Math.abs(center.y - viewY);
-        final double radiusSquared = radius * radius;
-        final double oppositeSquared = opposite * opposite;
-        final double adjacentSideLength = Math.sqrt(radiusSquared - oppositeSquared);
-        return adjacentSideLength - radius + peekDistance;
+    @Override
+    public void smoothScrollToPosition(RecyclerView recyclerView, RecyclerView.State state, int position) {
+        final TurnSmoothScroller smoothScroller = new TurnSmoothScroller(recyclerView.getContext());
+        smoothScroller.setTargetPosition(position);
+        startSmoothScroll(smoothScroller);
     }
 
     /**
-     * Find the absolute vertical distance by which a view at {@code viewX} should offset to
-     * align with the circle {@code center} with {@code radius}, account for {@code peekDistance}.
+     * Render children into hardware layers while the list is dragged or flung.
+     * <p>
+     * Rotation, and the scale and alpha applied by an {@link ItemTransformer}, change on every
+     * scroll frame.  Without a layer, each of those changes re-renders the child's whole view tree.
+     * With a layer, the child is rendered once into a texture, which is then only redrawn at its new
+     * angle.  Children are promoted when scrolling starts, or from the offset pass once they have
+     * been measured if they scroll into view, and demoted when scrolling goes idle.  Children that
+     * already have a layer are left alone.  Has no effect unless the list is hardware
+     * accelerated and children are rotated or transformed.
+     * <p>
+     * Layers cost texture memory for as long as they are held, bounded by
+     * {@link #setMaxScrollingLayers(int)} and {@link #setMaxScrollingLayerSize(int)}.  Disabled by
+     * default.
+     *
+     * @see #getLayerPromotionCount()
+     * @see #getLayerDemotionCount()
      */
-    private double resolveOffsetY(double radius, double viewX, Point center, int peekDistance) {
-        final double adjacent = Math.abs(center.x - viewX);
-        final double radiusSquared = radius * radius;
-        final double adjacentSquared = adjacent * adjacent;
-        final double oppositeSideLength = Math.sqrt(radiusSquared - adjacentSquared);
-        return oppositeSideLength - radius + peekDistance;
+    public void setScrollingLayers(boolean scrollingLayers) {
+        this.scrollingLayers = scrollingLayers;
+        if (!scrollingLayers) {
+            demoteLayers();
+        }
     }
 
     /**
-     * Traffic method to divert calls based on {@link Orientation}.
+     * Cap the number of children held in hardware layers while scrolling.  Defaults to
+     * {@value #DEFAULT_MAX_SCROLLING_LAYERS}.
      *
-     * @see #setChildOffsetsVertical(int, int, Point, int)
-     * @see #setChildOffsetsHorizontal(int, int, Point, int)
-     */
-    private void setChildOffsets(@Gravity int gravity,
-                                 int orientation,
-                                 @Dimension int radius,
-                                 Point center,
-                                 int peekDistance) {
-        if (orientation == VERTICAL) {
-            setChildOffsetsVertical(gravity, radius, center, peekDistance);
-        } else if (orientation == HORIZONTAL) {
-            setChildOffsetsHorizontal(gravity, radius, center, peekDistance);
-        }
+     * @see #setScrollingLayers(boolean)
+     */
+    public void setMaxScrollingLayers(int maxScrollingLayers) {
+        this.maxScrollingLayers = Math.max(maxScrollingLayers, 0);
     }
 
     /**
-     * Set the bumper offsets on child views for {@link Orientation#VERTICAL}
+     * Skip children wider or taller than {@code maxScrollingLayerSize} pixels when promoting them to
+     * hardware layers.  Defaults to {@value #DEFAULT_MAX_SCROLLING_LAYER_SIZE}, within the maximum
+     * texture size of most GPUs.
+     *
+     * @see #setScrollingLayers(boolean)
      */
-    private void setChildOffsetsVertical(@Gravity int gravity,
-                                         @Dimension int radius,
-                                         Point center,
-                                         int peekDistance) {
-        for (int i = 0; i < getChildCount(); i++) {
-            View child = getChildAt(i);
-            if (child == null) continue;
-            RecyclerView.LayoutParams layoutParams = (RecyclerView.LayoutParams) child.getLayoutParams();
-            final int xOffset = (int) resolveOffsetX(radius, child.getY() + child.getHeight() / 2.0f, center, peekDistance);
-            final int x = gravity == Gravity.START ? xOffset + getMarginStart(layoutParams)
-                    : getWidth() - xOffset - child.getWidth() - getMarginStart(layoutParams);
-            child.layout(x, child.getTop(), child.getWidth() + x, child.getBottom());
-            setChildRotationVertical(gravity, child, radius, center);
-        }
+    public void setMaxScrollingLayerSize(@Dimension int maxScrollingLayerSize) {
+        this.maxScrollingLayerSize = maxScrollingLayerSize;
     }
 
     /**
-     * Given that the is {@link Orientation#VERTICAL}, apply rotation if rotation is enabled.
+     * @return The number of times a child has been promoted to a hardware layer for scrolling.
+     * @see #setScrollingLayers(boolean)
      */
-    private void setChildRotationVertical(@Gravity int gravity, View child, int radius, Point center) {
-        if (!rotate) {
-            child.setRotation(0);
+    public long getLayerPromotionCount() {
+        return layerPromotionCount;
+    }
+
+    /**
+     * @return The number of times a child has been demoted from its scrolling hardware layer, when
+     * scrolling went idle or the child was detached.
+     * @see #setScrollingLayers(boolean)
+     */
+    public long getLayerDemotionCount() {
+        return layerDemotionCount;
+    }
+
+    /**
+     * Optimize for fast scrollers that jump through very large adapters.
+     * <p>
+     * Thumb drags call {@link #scrollToPosition(int)} or {@link #scrollToPositionWithOffset(int, int)}
+     * for every touch event.  In fast-scroll mode, those jumps are held until the next frame, and
+     * only the latest one is applied, so scrubbing costs at most one layout per frame.  The turn
+     * geometry carries over between jumps and is never rebuilt.
+     * <p>
+     * Scroll offset, extent and range are also estimated from the average item size measured over
+     * past layouts, rather than from the children currently attached, so the scrollbar stays steady
+     * as items of different sizes, or items culled off the turn, come and go.  Not applied to
+     * reversed or stacked-from-end layouts.  Disabled by default.
+     *
+     * @see #getCoalescedScrollCount()
+     */
+    public void setFastScrollMode(boolean fastScrollMode) {
+        if (this.fastScrollMode == fastScrollMode) {
             return;
         }
-        boolean childPastCenter = (child.getY() + child.getHeight() / 2.0) > center.y;
-        float directionMult;
-        if (gravity == Gravity.END) {
-            directionMult = childPastCenter ? -1 : 1;
-        } else {
-            directionMult = childPastCenter ? 1 : -1;
+        this.fastScrollMode = fastScrollMode;
+        if (!fastScrollMode) {
+            applyPendingScroll();
         }
-        final float opposite = Math.abs(child.getY() + child.getHeight() / 2.0f - center.y);
-        child.setRotation((float) (directionMult * Math.toDegrees(Math.asin(opposite / radius))));
     }
 
     /**
-     * Set bumper offsets on child views for {@link Orientation#HORIZONTAL}
+     * @return The number of jumps dropped in fast-scroll mode because a later jump replaced them
+     * within the same frame.
+     * @see #setFastScrollMode(boolean)
      */
-    private void setChildOffsetsHorizontal(@Gravity int gravity,
-                                           @Dimension int radius,
-                                           Point center,
-                                           int peekDistance) {
-        for (int i = 0; i < getChildCount(); i++) {
-            View child = getChildAt(i);
-            if (child == null) continue;
-            RecyclerView.LayoutParams layoutParams = (RecyclerView.LayoutParams) child.getLayoutParams();
-            final int yOffset = (int) resolveOffsetY(radius, child.getX() + child.getWidth() / 2.0f, center, peekDistance);
-            final int y = gravity == Gravity.START ? yOffset + getMarginStart(layoutParams)
-                    : getHeight() - yOffset - child.getHeight() - getMarginStart(layoutParams);
+    public long getCoalescedScrollCount() {
+        return coalescedScrollCount;
+    }
+
+    @Override
+    public void scrollToPosition(int position) {
+        pendingAnchorPosition = RecyclerView.NO_POSITION;
+        if (!deferScroll(position, 0, false)) {
+            super.scrollToPosition(position);
+        }
+    }
 
-            child.layout(child.getLeft(), y, child.getRight(), child.getHeight() + y);
-            setChildRotationHorizontal(gravity, child, radius, center);
+    @Override
+    public void scrollToPositionWithOffset(int position, int offset) {
+        pendingAnchorPosition = RecyclerView.NO_POSITION;
+        if (!deferScroll(position, offset, true)) {
+            super.scrollToPositionWithOffset(position, offset);
         }
     }
 
     /**
-     * Given that the orientation is {@link Orientation#HORIZONTAL}, apply rotation if enabled.
+     * Save the turn configuration along with the item at the apex and its distance from the apex,
+     * so that a restored list puts the same item back at the same angle on the turn.
      */
-    private void setChildRotationHorizontal(@Gravity int gravity, View child, int radius, Point center) {
-        if (!rotate) {
-            child.setRotation(0);
-            return;
+    @Override
+    public Parcelable onSaveInstanceState() {
+        applyPendingScroll();
+        final SavedState state = new SavedState(super.onSaveInstanceState());
+        state.gravity = gravity;
+        state.radius = radius;
+        state.peekDistance = peekDistance;
+        state.rotate = rotate;
+        if (pendingAnchorPosition != RecyclerView.NO_POSITION) {
+            // Not laid out since the last restore.
+            state.anchorPosition = pendingAnchorPosition;
+            state.anchorDistance = pendingAnchorDistance;
+            return state;
         }
-        boolean childPastCenter = (child.getX() + child.getWidth() / 2.0) > center.x;
-        float directionMult;
-        if (gravity == Gravity.END) {
-            directionMult = childPastCenter ? 1 : -1;
-        } else {
-            directionMult = childPastCenter ? -1 : 1;
+        final View anchor = apexItemPosition == RecyclerView.NO_POSITION ? null : findViewByPosition(apexItemPosition);
+        if (anchor != null) {
+            state.anchorPosition = apexItemPosition;
+            state.anchorDistance = getDecoratedCenter(anchor) - getApexPosition();
         }
-        final float opposite = Math.abs(child.getX() + child.getWidth() / 2.0f - center.x);
-        child.setRotation((float) (directionMult * Math.toDegrees(Math.asin(opposite / radius))));
+        return state;
     }
-    
+
+    /**
+     * Restore the turn configuration, and hold the saved apex item until the next layout, which
+     * places it back at its saved distance from the apex within that same pass.
+     */
+    @Override
+    public void onRestoreInstanceState(Parcelable state) {
+        if (!(state instanceof SavedState)) {
+            super.onRestoreInstanceState(state);
+            return;
+        }
+        final SavedState savedState = (SavedState) state;
+        radiusAnimator.cancel();
+        peekAnimator.cancel();
+        gravity = savedState.gravity;
+        radius = savedState.radius;
+        peekDistance = savedState.peekDistance;
+        rotate = savedState.rotate;
+        super.onRestoreInstanceState(savedState.getSuperState());
+        pendingAnchorPosition = savedState.anchorPosition;
+        pendingAnchorDistance = savedState.anchorDistance;
+    }
+
+    @Override
+    public void onAdapterChanged(@Nullable RecyclerView.Adapter oldAdapter, @Nullable RecyclerView.Adapter newAdapter) {
+        super.onAdapterChanged(oldAdapter, newAdapter);
+        measuredItemSize = 0;
+        measuredItemCount = 0;
+    }
+
+    @Override
+    public int computeVerticalScrollOffset(RecyclerView.State state) {
+        return usesEstimatedExtents(state) ? computeEstimatedScrollOffset(state) : super.computeVerticalScrollOffset(state);
+    }
+
+    @Override
+    public int computeVerticalScrollExtent(RecyclerView.State state) {
+        return usesEstimatedExtents(state) ? getHeight() - getPaddingTop() - getPaddingBottom()
+                : super.computeVerticalScrollExtent(state);
+    }
+
+    @Override
+    public int computeVerticalScrollRange(RecyclerView.State state) {
+        return usesEstimatedExtents(state) ? computeEstimatedScrollRange(state) : super.computeVerticalScrollRange(state);
+    }
+
+    @Override
+    public int computeHorizontalScrollOffset(RecyclerView.State state) {
+        return usesEstimatedExtents(state) ? computeEstimatedScrollOffset(state) : super.computeHorizontalScrollOffset(state);
+    }
+
+    @Override
+    public int computeHorizontalScrollExtent(RecyclerView.State state) {
+        return usesEstimatedExtents(state) ? getWidth() - getPaddingLeft() - getPaddingRight()
+                : super.computeHorizontalScrollExtent(state);
+    }
+
+    @Override
+    public int computeHorizontalScrollRange(RecyclerView.State state) {
+        return usesEstimatedExtents(state) ? computeEstimatedScrollRange(state) : super.computeHorizontalScrollRange(state);
+    }
+
+    @Override
+    public void onScrollStateChanged(int state) {
+        super.onScrollStateChanged(state);
+        final boolean scrolling = state != RecyclerView.SCROLL_STATE_IDLE;
+        if (scrolling == this.scrolling) {
+            return;
+        }
+        this.scrolling = scrolling;
+        if (scrolling) {
+            for (int i = 0; i < getChildCount(); i++) {
+                View child = getChildAt(i);
+                if (child == null) continue;
+                promoteLayer(child);
+            }
+        } else {
+            demoteLayers();
+        }
+    }
+
+    @Override
+    public void setOrientation(int orientation) {
+        if (offsetMode == OffsetMode.TRANSLATION && orientation != getOrientation()) {
+            resetChildTranslation();
+        }
+        if (orientation != getOrientation()) {
+            measuredItemSize = 0;
+            measuredItemCount = 0;
+        }
+        super.setOrientation(orientation);
+    }
+
+    @Override
+    public void onLayoutCompleted(RecyclerView.State state) {
+        super.onLayoutCompleted(state);
+        if (offsetMode != OffsetMode.TRANSLATION || recyclerView == null || awaitingItemAnimations) {
+            return;
+        }
+        // Animations for this layout are pending by now.
+        final RecyclerView.ItemAnimator itemAnimator = recyclerView.getItemAnimator();
+        if (itemAnimator != null && !(itemAnimator instanceof TurnItemAnimator) && itemAnimator.isRunning()) {
+            awaitingItemAnimations = itemAnimator.isRunning(itemAnimationsFinishedListener);
+        }
+    }
+
+    @Override
+    public void onAttachedToWindow(RecyclerView view) {
+        super.onAttachedToWindow(view);
+        recyclerView = view;
+        if (deferOffsets) {
+            view.getViewTreeObserver().addOnPreDrawListener(preDrawListener);
+        }
+        view.addOnChildAttachStateChangeListener(layerListener);
+    }
+
+    @Override
+    public void onDetachedFromWindow(RecyclerView view, RecyclerView.Recycler recycler) {
+        super.onDetachedFromWindow(view, recycler);
+        radiusAnimator.cancel();
+        peekAnimator.cancel();
+        view.getViewTreeObserver().removeOnPreDrawListener(preDrawListener);
+        view.removeOnChildAttachStateChangeListener(layerListener);
+        applyPendingScroll();
+        demoteLayers();
+        scrolling = false;
+        recyclerView = null;
+    }
+
+    @Override
+    public int scrollVerticallyBy(int dy, RecyclerView.Recycler recycler, RecyclerView.State state) {
+        final long start = beginPass(SECTION_SCROLL);
+        int by = super.scrollVerticallyBy(dy, recycler, state);
+        endPass(Metrics.Pass.SCROLL, start, 0);
+        if (isDeferringOffsets()) {
+            offsetsDirty = true;
+        } else {
+            setChildOffsetsVertical(gravity);
+        }
+        if (cullOffArcItems && by != 0) {
+            // Content moving towards the start leaves children behind at the start, and vice versa.
+            recycleOffArcChildren(by > 0, recycler);
+        }
+        return by;
+    }
+
+    @Override
+    public int scrollHorizontallyBy(int dx, RecyclerView.Recycler recycler, RecyclerView.State state) {
+        final long start = beginPass(SECTION_SCROLL);
+        int by = super.scrollHorizontallyBy(dx, recycler, state);
+        endPass(Metrics.Pass.SCROLL, start, 0);
+        if (isDeferringOffsets()) {
+            offsetsDirty = true;
+        } else {
+            setChildOffsetsHorizontal(gravity);
+        }
+        if (cullOffArcItems && by != 0) {
+            // Content moving towards the start leaves children behind at the start, and vice versa.
+            recycleOffArcChildren(by > 0, recycler);
+        }
+        return by;
+    }
+
+    @Override
+    public void onLayoutChildren(RecyclerView.Recycler recycler, RecyclerView.State state) {
+        if (pendingLayoutCause != NO_LAYOUT_CAUSE && !state.isPreLayout()) {
+            if (metrics != null) {
+                metrics.onLayoutRequested(pendingLayoutCause);
+            }
+            pendingLayoutCause = NO_LAYOUT_CAUSE;
+        }
+        final long start = beginPass(SECTION_LAYOUT);
+        // A list that hasn't been measured yet has no turn to speak of.
+        final boolean measured = getWidth() > 0 && getHeight() > 0;
+        final boolean restoringAnchor = measured
+                && pendingAnchorPosition != RecyclerView.NO_POSITION
+                && !state.isPreLayout()
+                && pendingAnchorPosition < state.getItemCount();
+        final boolean vertical = getOrientation() == VERTICAL;
+        if (restoringAnchor) {
+            // Start the anchor roughly at its saved place, to be corrected once it is measured.
+            final int length = vertical ? getHeight() - getPaddingTop() - getPaddingBottom()
+                    : getWidth() - getPaddingLeft() - getPaddingRight();
+            super.scrollToPositionWithOffset(pendingAnchorPosition, Math.round(length / 2f + pendingAnchorDistance));
+        }
+        super.onLayoutChildren(recycler, state);
+        final boolean gravityStart = gravity == Gravity.START;
+        final boolean fast = precision == Precision.FAST;
+        if (geometry == null && !measured) {
+            endPass(Metrics.Pass.LAYOUT, start, 0);
+            return;
+        }
+        if (measured && (geometry == null
+                || !geometry.matches(vertical, gravityStart, turnPath, radius, peekDistance, getWidth(), getHeight(), fast))) {
+            final long geometryStart = beginPass(SECTION_GEOMETRY);
+            this.geometry = turnPath == null
+                    ? TurnGeometryCache.obtain(vertical, gravityStart, radius, peekDistance, getWidth(), getHeight(), fast)
+                    : new TurnGeometry(vertical, gravityStart, turnPath, getWidth(), getHeight());
+            endPass(Metrics.Pass.GEOMETRY, geometryStart, 0);
+        }
+        if (restoringAnchor) {
+            restoreAnchor(recycler, state);
+        }
+        if (state.isPreLayout() && recyclerView != null && recyclerView.getItemAnimator() instanceof TurnItemAnimator) {
+            setAnimatingChildOffsets();
+        } else {
+            setChildOffsets(gravity, getOrientation());
+        }
+        if (fastScrollMode && !state.isPreLayout()) {
+            measureItemSize();
+        }
+        endPass(Metrics.Pass.LAYOUT, start, 0);
+    }
+
+    /**
+     * The pre-layout offset pass when a {@link TurnItemAnimator} runs item animations.  Moves are
+     * animated along the turn from their position on the scroll axis alone, so only children that
+     * are removed or changed, and fade out where they were laid out in pre-layout, need offsets.
+     */
+    private void setAnimatingChildOffsets() {
+        if (geometry == null) return;
+        offsetPassCount++;
+        final long start = beginPass(SECTION_OFFSETS);
+        outOfRadiusCount = 0;
+        for (int i = 0; i < getChildCount(); i++) {
+            View child = getChildAt(i);
+            if (child == null) continue;
+            final RecyclerView.LayoutParams layoutParams = (RecyclerView.LayoutParams) child.getLayoutParams();
+            if (layoutParams.isItemRemoved() || layoutParams.isItemChanged()) {
+                setChildOffset(gravity, child);
+            }
+        }
+        endPass(Metrics.Pass.OFFSETS, start, outOfRadiusCount);
+    }
+
+    /**
+     * @return The position along the scroll axis, relative to the list, at which the turn peaks.
+     * Before the first layout, the middle of the list.
+     */
+    int getApexPosition() {
+        if (geometry != null) {
+            return geometry.apex();
+        }
+        return (getOrientation() == VERTICAL ? getHeight() : getWidth()) / 2;
+    }
+
+    /**
+     * In {@link OffsetMode#CANVAS}, compute the transform that carries {@code child} from where it
+     * sits, in the coordinates of the list, to its place on the turn.
+     *
+     * @return false, with {@code out} reset to identity, if no transform applies.
+     */
+    boolean getChildTransform(View child, Matrix out) {
+        if (offsetMode != OffsetMode.CANVAS || geometry == null) {
+            out.reset();
+            return false;
+        }
+        final boolean vertical = getOrientation() == VERTICAL;
+        final float centerX = child.getX() + child.getWidth() / 2.0f;
+        final float centerY = child.getY() + child.getHeight() / 2.0f;
+        final float position = vertical ? centerY : centerX;
+        out.setRotate(getTurnRotation(position), centerX, centerY);
+        if (vertical) {
+            out.postTranslate(getTurnEdge(child, position) - child.getX(), 0);
+        } else {
+            out.postTranslate(0, getTurnEdge(child, position) - child.getY());
+        }
+        return true;
+    }
+
+    /**
+     * @return The left edge for {@link Orientation#VERTICAL}, or the top edge for
+     * {@link Orientation#HORIZONTAL}, of {@code child} when centered at {@code position} on the turn.
+     */
+    float getTurnEdge(View child, float position) {
+        final RecyclerView.LayoutParams layoutParams = (RecyclerView.LayoutParams) child.getLayoutParams();
+        final float offset = resolveOffset(position);
+        if (getOrientation() == VERTICAL) {
+            return gravity == Gravity.START ? offset + getMarginStart(layoutParams)
+                    : getWidth() - offset - child.getWidth() - getMarginStart(layoutParams);
+        }
+        return gravity == Gravity.START ? offset + getMarginStart(layoutParams)
+                : getHeight() - offset - child.getHeight() - getMarginStart(layoutParams);
+    }
+
+    /**
+     * @return The rotation of a child centered at {@code position} on the turn, or zero if
+     * rotation is disabled.
+     */
+    float getTurnRotation(float position) {
+        if (!rotate) {
+            return 0;
+        }
+        final float angle = resolveAngle(position);
+        if (Float.isNaN(angle)) {
+            return 0;
+        }
+        return (getOrientation() == VERTICAL) == (gravity == Gravity.END) ? -angle : angle;
+    }
+
+    /**
+     * Re-apply the turn to a single child, after an item animation has moved it.
+     */
+    void applyTurn(View child) {
+        if (geometry != null) {
+            setChildOffset(gravity, child);
+        }
+    }
+
+    boolean isCanvasMode() {
+        return offsetMode == OffsetMode.CANVAS;
+    }
+
+    /**
+     * Scroll the restored anchor to exactly its saved distance from the apex, now that it is laid
+     * out and measured.
+     */
+    private void restoreAnchor(RecyclerView.Recycler recycler, RecyclerView.State state) {
+        final View anchor = findViewByPosition(pendingAnchorPosition);
+        final float target = getApexPosition() + pendingAnchorDistance;
+        pendingAnchorPosition = RecyclerView.NO_POSITION;
+        if (anchor == null) {
+            return;
+        }
+        final int delta = Math.round(getDecoratedCenter(anchor) - target);
+        if (delta == 0) {
+            return;
+        }
+        if (getOrientation() == VERTICAL) {
+            super.scrollVerticallyBy(delta, recycler, state);
+        } else {
+            super.scrollHorizontallyBy(delta, recycler, state);
+        }
+    }
+
+    /**
+     * @return The center of {@code child}'s decorated bounds along the scroll axis.
+     */
+    private float getDecoratedCenter(View child) {
+        if (getOrientation() == VERTICAL) {
+            return (getDecoratedTop(child) + getDecoratedBottom(child)) / 2.0f;
+        }
+        return (getDecoratedLeft(child) + getDecoratedRight(child)) / 2.0f;
+    }
+
+    /**
+     * In fast-scroll mode, hold a jump until the next frame, replacing any jump already held.
+     *
+     * @return false if the jump should be applied right away.
+     */
+    private boolean deferScroll(int position, int offset, boolean hasOffset) {
+        if (!fastScrollMode || recyclerView == null) {
+            return false;
+        }
+        if (pendingScrollPosition == RecyclerView.NO_POSITION) {
+            Choreographer.getInstance().postFrameCallback(pendingScrollCallback);
+        } else {
+            coalescedScrollCount++;
+        }
+        pendingScrollPosition = position;
+        pendingScrollOffset = offset;
+        pendingScrollHasOffset = hasOffset;
+        return true;
+    }
+
+    /**
+     * Apply the jump held by {@link #deferScroll(int, int, boolean)}, if any.  Frame callbacks run
+     * ahead of layout, so the jump still lands in the frame it was made for.
+     */
+    private void applyPendingScroll() {
+        if (pendingScrollPosition == RecyclerView.NO_POSITION) {
+            return;
+        }
+        Choreographer.getInstance().removeFrameCallback(pendingScrollCallback);
+        final int position = pendingScrollPosition;
+        pendingScrollPosition = RecyclerView.NO_POSITION;
+        if (pendingScrollHasOffset) {
+            super.scrollToPositionWithOffset(position, pendingScrollOffset);
+        } else {
+            super.scrollToPosition(position);
+        }
+    }
+
+    /**
+     * Fold the sizes of the attached children, along the scroll axis, into the running average
+     * used for scroll extents in fast-scroll mode.
+     */
+    private void measureItemSize() {
+        final boolean vertical = getOrientation() == VERTICAL;
+        for (int i = 0; i < getChildCount(); i++) {
+            View child = getChildAt(i);
+            if (child == null) continue;
+            final RecyclerView.LayoutParams layoutParams = (RecyclerView.LayoutParams) child.getLayoutParams();
+            measuredItemSize += vertical
+                    ? getDecoratedMeasuredHeight(child) + layoutParams.topMargin + layoutParams.bottomMargin
+                    : getDecoratedMeasuredWidth(child) + layoutParams.leftMargin + layoutParams.rightMargin;
+            measuredItemCount++;
+        }
+    }
+
+    private boolean usesEstimatedExtents(RecyclerView.State state) {
+        return fastScrollMode
+                && measuredItemCount > 0
+                && getChildCount() > 0
+                && state.getItemCount() > 0
+                && !getReverseLayout()
+                && !getStackFromEnd();
+    }
+
+    private int computeEstimatedScrollRange(RecyclerView.State state) {
+        return (int) Math.round(state.getItemCount() * measuredItemSize / measuredItemCount);
+    }
+
+    private int computeEstimatedScrollOffset(RecyclerView.State state) {
+        final View first = getChildAt(0);
+        if (first == null) {
+            return 0;
+        }
+        final RecyclerView.LayoutParams layoutParams = (RecyclerView.LayoutParams) first.getLayoutParams();
+        final boolean vertical = getOrientation() == VERTICAL;
+        final int hidden = vertical
+                ? getPaddingTop() - getDecoratedTop(first) + layoutParams.topMargin
+                : getPaddingLeft() - getDecoratedLeft(first) + layoutParams.leftMargin;
+        final int offset = (int) Math.round(getPosition(first) * measuredItemSize / measuredItemCount) + hidden;
+        final int extent = vertical ? getHeight() - getPaddingTop() - getPaddingBottom()
+                : getWidth() - getPaddingLeft() - getPaddingRight();
+        return Math.max(0, Math.min(offset, computeEstimatedScrollRange(state) - extent));
+    }
+
+    /**
+     * Request a layout on behalf of a configuration setter, to be reported to {@link Metrics} once
+     * it runs.
+     */
+    private void requestLayout(@Metrics.Cause int cause) {
+        pendingLayoutCause = cause;
+        requestLayout();
+    }
+
+    /**
+     * Open a trace section if tracing is enabled, and take a start timestamp if a {@link Metrics}
+     * listener is set.
+     *
+     * @return The start timestamp to pass to {@link #endPass(int, long, int)}.
+     */
+    private long beginPass(String section) {
+        if (tracing) {
+            TraceCompat.beginSection(section);
+        }
+        return metrics != null ? System.nanoTime() : 0;
+    }
+
+    /**
+     * Close the section opened by {@link #beginPass(String)} and report the pass.
+     */
+    private void endPass(@Metrics.Pass int pass, long start, int outOfRadiusCount) {
+        if (tracing) {
+            TraceCompat.endSection();
+        }
+        if (metrics != null) {
+            metrics.onPass(pass, System.nanoTime() - start, getChildCount(), outOfRadiusCount);
+        }
+    }
+
+    /**
+     * Traffic method to divert calls based on {@link Orientation}.
+     *
+     * @see #setChildOffsetsVertical(int)
+     * @see #setChildOffsetsHorizontal(int)
+     */
+    private void setChildOffsets(@Gravity int gravity, int orientation) {
+        offsetsDirty = false;
+        if (orientation == VERTICAL) {
+            setChildOffsetsVertical(gravity);
+        } else if (orientation == HORIZONTAL) {
+            setChildOffsetsHorizontal(gravity);
+        }
+    }
+
+    /**
+     * Traffic method to offset a single child based on {@link Orientation}.
+     */
+    private void setChildOffset(@Gravity int gravity, View child) {
+        if (getOrientation() == VERTICAL) {
+            setChildOffsetVertical(gravity, child);
+        } else {
+            setChildOffsetHorizontal(gravity, child);
+        }
+    }
+
+    /**
+     * Set the bumper offsets on child views for {@link Orientation#VERTICAL}
+     */
+    private void setChildOffsetsVertical(@Gravity int gravity) {
+        if (geometry == null) return;
+        if (offsetMode == OffsetMode.CANVAS && itemTransformer == null) {
+            // Nothing to write, the turn is applied at draw time.
+            trackApexItem();
+            return;
+        }
+        offsetPassCount++;
+        final long start = beginPass(SECTION_OFFSETS);
+        outOfRadiusCount = 0;
+        apexCandidate = null;
+        for (int i = 0; i < getChildCount(); i++) {
+            View child = getChildAt(i);
+            if (child == null) continue;
+            considerApexItem(child, setChildOffsetVertical(gravity, child));
+            if (scrolling && scrollingLayers) {
+                promoteLayer(child);
+            }
+        }
+        updateApexItem();
+        endPass(Metrics.Pass.OFFSETS, start, outOfRadiusCount);
+    }
+
+    /**
+     * Offset and rotate a single child for {@link Orientation#VERTICAL}
+     *
+     * @return The position of the child's center on the scroll axis.
+     */
+    private float setChildOffsetVertical(@Gravity int gravity, View child) {
+        RecyclerView.LayoutParams layoutParams = (RecyclerView.LayoutParams) child.getLayoutParams();
+        final float position = child.getY() + child.getHeight() / 2.0f;
+        final float xOffset = resolveOffset(position);
+        if (offsetMode == OffsetMode.CANVAS) {
+            clearChildTurn(child, true);
+            if (itemTransformer != null) {
+                transformItem(child, position, xOffset, resolveAngle(position));
+            }
+            return position;
+        }
+        if (offsetMode == OffsetMode.TRANSLATION) {
+            final float x = gravity == Gravity.START ? xOffset + getMarginStart(layoutParams)
+                    : getWidth() - xOffset - child.getWidth() - getMarginStart(layoutParams);
+            final float translationX = x - child.getLeft();
+            if (child.getTranslationX() != translationX) {
+                child.setTranslationX(translationX);
+                appliedWriteCount++;
+            } else {
+                skippedWriteCount++;
+            }
+        } else {
+            final int x = gravity == Gravity.START ? (int) xOffset + getMarginStart(layoutParams)
+                    : getWidth() - (int) xOffset - child.getWidth() - getMarginStart(layoutParams);
+            if (child.getLeft() != x) {
+                child.layout(x, child.getTop(), child.getWidth() + x, child.getBottom());
+                appliedWriteCount++;
+            } else {
+                skippedWriteCount++;
+            }
+            clearPerpendicularTranslation(child, true);
+        }
+        final float angle = rotate || itemTransformer != null ? resolveAngle(position) : 0;
+        setChildRotation(child, !rotate ? 0 : gravity == Gravity.END ? -angle : angle);
+        if (itemTransformer != null) {
+            transformItem(child, position, xOffset, angle);
+        }
+        return position;
+    }
+
+    /**
+     * Look up the perpendicular offset for a child centered at {@code position} on the scroll axis.
+     * Positions beyond the radius have no offset, unless culling is enabled, in which case they are
+     * parked at the edge of the turn.
+     */
+    private float resolveOffset(float position) {
+        final float offset = computesDirectly()
+                ? TurnGeometry.offset(precision == Precision.FAST, radius, position, geometry.apex(), peekDistance)
+                : geometry.offsetAt(position, interpolateOffsets);
+        if (!Float.isNaN(offset)) {
+            return offset;
+        }
+        outOfRadiusCount++;
+        if (!cullOffArcItems) {
+            return 0;
+        }
+        return computesDirectly() ? peekDistance - radius : geometry.edgeOffset();
+    }
+
+    /**
+     * Look up the tangent angle for a child centered at {@code position} on the scroll axis.  With
+     * culling enabled, positions beyond the radius are clamped to a right angle.
+     */
+    private float resolveAngle(float position) {
+        final float angle = computesDirectly()
+                ? TurnGeometry.angle(precision == Precision.FAST, radius, position, geometry.apex())
+                : geometry.angleAt(position, interpolateOffsets);
+        if (!Float.isNaN(angle) || !cullOffArcItems) {
+            return angle;
+        }
+        return position < geometry.apex() ? -90 : 90;
+    }
+
+    /**
+     * Set bumper offsets on child views for {@link Orientation#HORIZONTAL}
+     */
+    private void setChildOffsetsHorizontal(@Gravity int gravity) {
+        if (geometry == null) return;
+        if (offsetMode == OffsetMode.CANVAS && itemTransformer == null) {
+            // Nothing to write, the turn is applied at draw time.
+            trackApexItem();
+            return;
+        }
+        offsetPassCount++;
+        final long start = beginPass(SECTION_OFFSETS);
+        outOfRadiusCount = 0;
+        apexCandidate = null;
+        for (int i = 0; i < getChildCount(); i++) {
+            View child = getChildAt(i);
+            if (child == null) continue;
+            considerApexItem(child, setChildOffsetHorizontal(gravity, child));
+            if (scrolling && scrollingLayers) {
+                promoteLayer(child);
+            }
+        }
+        updateApexItem();
+        endPass(Metrics.Pass.OFFSETS, start, outOfRadiusCount);
+    }
+
+    /**
+     * Offset and rotate a single child for {@link Orientation#HORIZONTAL}
+     *
+     * @return The position of the child's center on the scroll axis.
+     */
+    private float setChildOffsetHorizontal(@Gravity int gravity, View child) {
+        RecyclerView.LayoutParams layoutParams = (RecyclerView.LayoutParams) child.getLayoutParams();
+        final float position = child.getX() + child.getWidth() / 2.0f;
+        final float yOffset = resolveOffset(position);
+        if (offsetMode == OffsetMode.CANVAS) {
+            clearChildTurn(child, false);
+            if (itemTransformer != null) {
+                transformItem(child, position, yOffset, resolveAngle(position));
+            }
+            return position;
+        }
+        if (offsetMode == OffsetMode.TRANSLATION) {
+            final float y = gravity == Gravity.START ? yOffset + getMarginStart(layoutParams)
+                    : getHeight() - yOffset - child.getHeight() - getMarginStart(layoutParams);
+            final float translationY = y - child.getTop();
+            if (child.getTranslationY() != translationY) {
+                child.setTranslationY(translationY);
+                appliedWriteCount++;
+            } else {
+                skippedWriteCount++;
+            }
+        } else {
+            final int y = gravity == Gravity.START ? (int) yOffset + getMarginStart(layoutParams)
+                    : getHeight() - (int) yOffset - child.getHeight() - getMarginStart(layoutParams);
+            if (child.getTop() != y) {
+                child.layout(child.getLeft(), y, child.getRight(), child.getHeight() + y);
+                appliedWriteCount++;
+            } else {
+                skippedWriteCount++;
+            }
+            clearPerpendicularTranslation(child, false);
+        }
+        final float angle = rotate || itemTransformer != null ? resolveAngle(position) : 0;
+        setChildRotation(child, !rotate ? 0 : gravity == Gravity.END ? angle : -angle);
+        if (itemTransformer != null) {
+            transformItem(child, position, yOffset, angle);
+        }
+        return position;
+    }
+
+    /**
+     * Hand the values computed for {@code child} by the offset pass to the {@link ItemTransformer}.
+     */
+    private void transformItem(View child, float position, float offset, float angle) {
+        final float distance = position - geometry.apex();
+        final int length = getOrientation() == VERTICAL ? getHeight() : getWidth();
+        final float fraction = length == 0 ? 0 : Math.max(-1, Math.min(1, 2 * distance / length));
+        if (Float.isNaN(angle)) {
+            // Beyond the radius, where the turn is undefined, the tangent is perpendicular.
+            angle = distance < 0 ? -90 : 90;
+        }
+        itemTransformer.transformItem(child, distance, fraction, offset, angle);
+    }
+
+    /**
+     * Track the apex item when no offset pass runs, in {@link OffsetMode#CANVAS}.  Children are
+     * still cleared of any turn left over from another mode.
+     */
+    private void trackApexItem() {
+        apexCandidate = null;
+        final boolean vertical = getOrientation() == VERTICAL;
+        for (int i = 0; i < getChildCount(); i++) {
+            View child = getChildAt(i);
+            if (child == null) continue;
+            clearChildTurn(child, vertical);
+            considerApexItem(child, vertical ? child.getY() + child.getHeight() / 2.0f
+                    : child.getX() + child.getWidth() / 2.0f);
+            if (scrolling && scrollingLayers) {
+                promoteLayer(child);
+            }
+        }
+        updateApexItem();
+    }
+
+    /**
+     * Keep {@code child} as the apex item of the current pass if it is the closest yet.
+     */
+    private void considerApexItem(View child, float position) {
+        final float distance = Math.abs(position - geometry.apex());
+        if (apexCandidate == null || distance < apexCandidateDistance) {
+            apexCandidate = child;
+            apexCandidateDistance = distance;
+            apexCandidatePosition = position;
+        }
+    }
+
+    /**
+     * Publish the apex item found by the current pass, notifying the listener if it changed.
+     */
+    private void updateApexItem() {
+        final int position = apexCandidate == null ? RecyclerView.NO_POSITION : getPosition(apexCandidate);
+        final float angle = apexCandidate == null ? 0 : resolveAngle(apexCandidatePosition);
+        apexItemAngle = Float.isNaN(angle) ? 0 : angle;
+        apexCandidate = null;
+        if (position != apexItemPosition) {
+            apexItemPosition = position;
+            if (onApexItemChangedListener != null) {
+                onApexItemChangedListener.onApexItemChanged(position);
+            }
+        }
+    }
+
+    /**
+     * Clear the translation perpendicular to the scroll axis, unless {@code child} has none.
+     * Views that were recycled or pooled while {@link OffsetMode#TRANSLATION} was in effect still
+     * carry it when they are bound again.
+     */
+    private void clearPerpendicularTranslation(View child, boolean vertical) {
+        if (vertical && child.getTranslationX() != 0) {
+            child.setTranslationX(0);
+            appliedWriteCount++;
+        } else if (!vertical && child.getTranslationY() != 0) {
+            child.setTranslationY(0);
+            appliedWriteCount++;
+        }
+    }
+
+    /**
+     * In {@link OffsetMode#CANVAS}, clear the rotation and perpendicular translation that the other
+     * modes leave on {@code child}, which would otherwise be applied on top of the canvas transform.
+     * Children that have neither cost no writes.
+     */
+    private void clearChildTurn(View child, boolean vertical) {
+        clearPerpendicularTranslation(child, vertical);
+        if (child.getRotation() != 0) {
+            child.setRotation(0);
+            appliedWriteCount++;
+        }
+    }
+
+    /**
+     * Rotate {@code child}, unless it already has the given rotation.  {@code NaN}, the angle
+     * beyond the radius where the turn is undefined, means no rotation.
+     */
+    private void setChildRotation(View child, float rotation) {
+        if (Float.isNaN(rotation)) {
+            rotation = 0;
+        }
+        if (child.getRotation() != rotation) {
+            child.setRotation(rotation);
+            appliedWriteCount++;
+        } else {
+            skippedWriteCount++;
+        }
+    }
+    
+    /**
+     * @return true if scroll offset passes should wait for the next pre-draw.
+     */
+    private boolean isDeferringOffsets() {
+        return deferOffsets && recyclerView != null;
+    }
+
+    /**
+     * Apply the offset pass skipped by deferred scrolls, if any.
+     */
+    private void applyDeferredOffsets() {
+        if (offsetsDirty) {
+            setChildOffsets(gravity, getOrientation());
+        }
+    }
+
+    /**
+     * @return How far, in pixels along the scroll axis, the rotated corners of an item like
+     * {@code child} would reach beyond its straight-line bounds at {@code position}.
+     */
+    private int getRotatedProtrusion(@Nullable View child, float position) {
+        if (!rotate || child == null) {
+            return 0;
+        }
+        final float angle = resolveAngle(position);
+        if (Float.isNaN(angle)) {
+            return 0;
+        }
+        final double radians = Math.toRadians(angle);
+        final double sin = Math.abs(Math.sin(radians));
+        final double cos = Math.abs(Math.cos(radians));
+        final boolean vertical = getOrientation() == VERTICAL;
+        final int along = vertical ? child.getHeight() : child.getWidth();
+        final int across = vertical ? child.getWidth() : child.getHeight();
+        return (int) Math.ceil(Math.max(0, (along * cos + across * sin - along) / 2));
+    }
+
+    /**
+     * Move {@code child} into a hardware layer for the duration of a scroll, if the layer policy
+     * allows it.  Must only be called once {@code child} has been measured.  A child that has
+     * outgrown {@link #setMaxScrollingLayerSize(int)} since it was promoted is demoted instead.
+     *
+     * @see #setScrollingLayers(boolean)
+     */
+    private void promoteLayer(View child) {
+        if (child.getMeasuredWidth() > maxScrollingLayerSize
+                || child.getMeasuredHeight() > maxScrollingLayerSize) {
+            demoteLayer(child);
+            return;
+        }
+        if (!scrollingLayers
+                || (!rotate && itemTransformer == null)
+                || recyclerView == null
+                || !recyclerView.isHardwareAccelerated()
+                || layerChildren.size() >= maxScrollingLayers
+                || child.getLayerType() != View.LAYER_TYPE_NONE) {
+            return;
+        }
+        child.setLayerType(View.LAYER_TYPE_HARDWARE, null);
+        layerChildren.add(child);
+        layerPromotionCount++;
+    }
+
+    /**
+     * Release the scrolling hardware layer of {@code child}, if it has one.
+     */
+    private void demoteLayer(View child) {
+        if (layerChildren.remove(child)) {
+            child.setLayerType(View.LAYER_TYPE_NONE, null);
+            layerDemotionCount++;
+        }
+    }
+
+    private void demoteLayers() {
+        for (int i = layerChildren.size() - 1; i >= 0; i--) {
+            demoteLayer(layerChildren.get(i));
+        }
+    }
+
+    private boolean isAnimating() {
+        return radiusAnimator.isRunning() || peekAnimator.isRunning();
+    }
+
+    /**
+     * While radius or peek distance are animating, the geometry table of the default circle is
+     * stale and offsets are computed directly from the current values instead.
+     */
+    private boolean computesDirectly() {
+        return isAnimating() && turnPath == null;
+    }
+
+    /**
+     * After a scroll, recycle the children on the trailing edge whose curved bounds no longer
+     * intersect the list.  At least one child is always kept as an anchor for the next scroll.
+     *
+     * @param atStart True if the trailing edge is the start of the list, false if it is the end.
+     */
+    private void recycleOffArcChildren(boolean atStart, RecyclerView.Recycler recycler) {
+        final boolean fromFirstChild = atStart != getReverseLayout();
+        while (getChildCount() > 1) {
+            final View child = getChildAt(fromFirstChild ? 0 : getChildCount() - 1);
+            if (child == null) {
+                return;
+            }
+            if (offsetsDirty) {
+                // Bring this child's curved bounds up to date ahead of the deferred pass.
+                setChildOffset(gravity, child);
+            }
+            if (!isOffArc(child)) {
+                return;
+            }
+            removeAndRecycleView(child, recycler);
+        }
+    }
+
+    /**
+     * @return true if the drawn bounds of {@code child}, including its turn offset and rotation,
+     * fall entirely outside of the list.
+     */
+    private boolean isOffArc(View child) {
+        if (getChildTransform(child, offArcMatrix)) {
+            offArcBounds.set(child.getX(), child.getY(), child.getX() + child.getWidth(), child.getY() + child.getHeight());
+            offArcMatrix.mapRect(offArcBounds);
+            return offArcBounds.right <= 0
+                    || offArcBounds.left >= getWidth()
+                    || offArcBounds.bottom <= 0
+                    || offArcBounds.top >= getHeight();
+        }
+        float halfWidth = child.getWidth() / 2.0f;
+        float halfHeight = child.getHeight() / 2.0f;
+        final float rotation = child.getRotation();
+        if (rotation != 0) {
+            final double radians = Math.toRadians(rotation);
+            final float sin = (float) Math.abs(Math.sin(radians));
+            final float cos = (float) Math.abs(Math.cos(radians));
+            final float rotatedHalfWidth = halfWidth * cos + halfHeight * sin;
+            halfHeight = halfWidth * sin + halfHeight * cos;
+            halfWidth = rotatedHalfWidth;
+        }
+        final float centerX = child.getX() + child.getWidth() / 2.0f;
+        final float centerY = child.getY() + child.getHeight() / 2.0f;
+        return centerX + halfWidth <= 0
+                || centerX - halfWidth >= getWidth()
+                || centerY + halfHeight <= 0
+                || centerY - halfHeight >= getHeight();
+    }
+
+    /**
+     * Clear any perpendicular translation applied by {@link OffsetMode#TRANSLATION}.
+     */
+    private void resetChildTranslation() {
+        for (int i = 0; i < getChildCount(); i++) {
+            View child = getChildAt(i);
+            if (child == null) continue;
+            child.setTranslationX(0);
+            child.setTranslationY(0);
+        }
+    }
+
     /**
      * @see android.view.ViewGroup.MarginLayoutParams#getMarginStart()
      */
@@ -0,0 +1,198 @@
+package cdflynn.android.library.turn;
+
+/**
+ * A trajectory along which a {@link TurnLayoutManager} offsets its items, in place of the default
+ * circle defined by radius and peek distance.
+ * <p>
+ * A path describes the offset of an item, perpendicular to the scroll axis and measured from the
+ * {@link TurnLayoutManager.Gravity} edge, at each position along the scroll axis.  Paths are
+ * sampled once per configuration into a table of offsets and tangent angles, so evaluating them
+ * while scrolling is a constant-time lookup no matter how complex the curve.
+ * <p>
+ * Paths must be immutable.  Implement {@link Function} for curves that are a function of the
+ * distance from the middle of the list, or extend {@link TurnPath} directly to sample freely.
+ */
+public abstract class TurnPath {
+
+    /**
+     * Parametric curves are sampled at this many points per pixel before being resampled onto the
+     * pixel grid.
+     */
+    private static final int SAMPLES_PER_PIXEL = 4;
+
+    /**
+     * Write the offset at every pixel position along a scroll axis of {@code length} pixels.
+     *
+     * @param length The length of the scroll axis, in pixels.
+     * @param out    Receives the offset for position {@code p} at index {@code p}, for
+     *               {@code 0 <= p <= length}.  Use {@code NaN} where the path is undefined.
+     */
+    public abstract void sample(int length, float[] out);
+
+    /**
+     * A path whose offset is a function of the signed distance from the middle of the list.
+     */
+    public abstract static class Function extends TurnPath {
+
+        /**
+         * @param distance The signed distance from the middle of the scroll axis, in pixels.
+         * @return The offset at {@code distance}, or {@code NaN} where the path is undefined.
+         */
+        protected abstract float offsetAt(float distance);
+
+        @Override
+        public void sample(int length, float[] out) {
+            final int middle = length / 2;
+            for (int position = 0; position <= length; position++) {
+                out[position] = offsetAt(position - middle);
+            }
+        }
+    }
+
+    /**
+     * A circle, matching the default trajectory of a {@link TurnLayoutManager}.
+     */
+    public static TurnPath circle(final int radius, final int peekDistance) {
+        return new Function() {
+            @Override
+            protected float offsetAt(float distance) {
+                return (float) TurnGeometry.resolveOffset(radius, distance, 0, peekDistance);
+            }
+        };
+    }
+
+    /**
+     * An ellipse, centered beyond the {@link TurnLayoutManager.Gravity} edge like the default circle.
+     *
+     * @param radiusAlong  The semi-axis parallel to the scroll axis.
+     * @param radiusAcross The semi-axis perpendicular to the scroll axis.
+     * @param peekDistance The offset at the middle of the list.
+     */
+    public static TurnPath ellipse(final int radiusAlong, final int radiusAcross, final int peekDistance) {
+        return new Function() {
+            @Override
+            protected float offsetAt(float distance) {
+                final double ratio = distance / (double) radiusAlong;
+                return (float) (radiusAcross * Math.sqrt(1 - ratio * ratio) - radiusAcross + peekDistance);
+            }
+        };
+    }
+
+    /**
+     * A cubic Bézier curve.  Positions along the scroll axis are given as a fraction of half its
+     * length, from {@code -1} at the start edge to {@code 1} at the end edge, and offsets in pixels.
+     * The curve must not double back along the scroll axis.  Offsets are held at the end points
+     * beyond either end of the curve.
+     */
+    public static TurnPath cubicBezier(float startPosition, float startOffset,
+                                       float control1Position, float control1Offset,
+                                       float control2Position, float control2Offset,
+                                       float endPosition, float endOffset) {
+        return new Parametric(1,
+                new float[]{startPosition, control1Position, control2Position, endPosition},
+                new float[]{startOffset, control1Offset, control2Offset, endOffset}) {
+            @Override
+            void point(int segment, float t, float[] out) {
+                final float u = 1 - t;
+                final float a = u * u * u;
+                final float b = 3 * u * u * t;
+                final float c = 3 * u * t * t;
+                final float d = t * t * t;
+                out[0] = a * positions[0] + b * positions[1] + c * positions[2] + d * positions[3];
+                out[1] = a * offsets[0] + b * offsets[1] + c * offsets[2] + d * offsets[3];
+            }
+        };
+    }
+
+    /**
+     * A Catmull-Rom spline passing through each of the given points.  Positions along the scroll
+     * axis are given as a fraction of half its length, from {@code -1} at the start edge to
+     * {@code 1} at the end edge, and must be increasing.  Offsets are in pixels, and are held at the
+     * first and last points beyond either end of the spline.
+     */
+    public static TurnPath catmullRom(float[] positions, float[] offsets) {
+        if (positions.length != offsets.length || positions.length < 2) {
+            throw new IllegalArgumentException("A Catmull-Rom spline needs at least two points, "
+                    + "with one offset per position");
+        }
+        return new Parametric(positions.length - 1, positions.clone(), offsets.clone()) {
+            @Override
+            void point(int segment, float t, float[] out) {
+                out[0] = interpolateCatmullRom(positions, segment, t);
+                out[1] = interpolateCatmullRom(offsets, segment, t);
+            }
+        };
+    }
+
+    /**
+     * Evaluate the uniform Catmull-Rom segment between {@code values[segment]} and
+     * {@code values[segment + 1]}, repeating the end points as needed.
+     */
+    private static float interpolateCatmullRom(float[] values, int segment, float t) {
+        final float p0 = values[Math.max(segment - 1, 0)];
+        final float p1 = values[segment];
+        final float p2 = values[segment + 1];
+        final float p3 = values[Math.min(segment + 2, values.length - 1)];
+        return 0.5f * (2 * p1
+                + (p2 - p0) * t
+                + (2 * p0 - 5 * p1 + 4 * p2 - p3) * t * t
+                + (3 * p1 - p0 - 3 * p2 + p3) * t * t * t);
+    }
+
+    /**
+     * A curve defined by a parameter {@code t}, densely sampled and then resampled onto the pixel
+     * grid of the scroll axis.
+     */
+    abstract static class Parametric extends TurnPath {
+
+        private final int segments;
+        final float[] positions;
+        final float[] offsets;
+
+        Parametric(int segments, float[] positions, float[] offsets) {
+            this.segments = segments;
+            this.positions = positions;
+            this.offsets = offsets;
+        }
+
+        /**
+         * Write the normalized position and the offset at parameter {@code t} of {@code segment}
+         * into {@code out[0]} and {@code out[1]}.
+         */
+        abstract void point(int segment, float t, float[] out);
+
+        @Override
+        public void sample(int length, float[] out) {
+            final float halfLength = length / 2f;
+            final int steps = Math.max(Math.max(length, 1) * SAMPLES_PER_PIXEL / segments, 1);
+            final float[] point = new float[2];
+            float previousX = Float.NaN;
+            float previousY = Float.NaN;
+            int position = 0;
+            for (int segment = 0; segment < segments; segment++) {
+                for (int step = segment == 0 ? 0 : 1; step <= steps; step++) {
+                    point(segment, step / (float) steps, point);
+                    final float x = halfLength + point[0] * halfLength;
+                    final float y = point[1];
+                    // Hold the first offset for positions before the curve begins.
+                    if (Float.isNaN(previousX)) {
+                        while (position <= length && position <= x) {
+                            out[position++] = y;
+                        }
+                    } else {
+                        while (position <= length && position <= x) {
+                            final float fraction = x == previousX ? 1 : (position - previousX) / (x - previousX);
+                            out[position++] = previousY + (y - previousY) * fraction;
+                        }
+                    }
+                    previousX = x;
+                    previousY = y;
+                }
+            }
+            // Hold the last offset for positions after the curve ends.
+            while (position <= length) {
+                out[position++] = previousY;
+            }
+        }
+    }
+}
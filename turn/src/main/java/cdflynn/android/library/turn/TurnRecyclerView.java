@@ -0,0 +1,203 @@
+package cdflynn.android.library.turn;
+
+import android.content.Context;
+import android.graphics.Canvas;
+import android.graphics.Matrix;
+import android.graphics.Rect;
+import android.graphics.RectF;
+import android.util.AttributeSet;
+import android.view.MotionEvent;
+import android.view.View;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.core.view.AccessibilityDelegateCompat;
+import androidx.core.view.accessibility.AccessibilityNodeInfoCompat;
+import androidx.recyclerview.widget.RecyclerView;
+import androidx.recyclerview.widget.RecyclerViewAccessibilityDelegate;
+
+/**
+ * A {@link RecyclerView} that draws the children of a {@link TurnLayoutManager} in
+ * {@link TurnLayoutManager.OffsetMode#CANVAS} along the turn.
+ * <p>
+ * Children keep their linear layout positions.  Each one is drawn through a canvas transform that
+ * carries it onto the turn.  {@link #findChildViewUnder(float, float)} and the bounds reported to
+ * accessibility services follow the transformed child.  A gesture that starts on a transformed child
+ * is mapped back through that child's inverse transform before it is dispatched to the children,
+ * and later pointers of the same gesture are mapped through it too.  The list itself, and any {@link OnItemTouchListener}, still receive
+ * the events as they arrived.  Hit testing goes through the children from last to first, without
+ * accounting for {@link View#getTranslationZ()}.  For any other layout manager or offset mode, this
+ * behaves like a plain {@link RecyclerView}.
+ */
+public class TurnRecyclerView extends RecyclerView {
+
+    private final Matrix childMatrix = new Matrix();
+    private final Matrix touchMatrix = new Matrix();
+    private final Matrix hitMatrix = new Matrix();
+    private final float[] point = new float[2];
+    private final RectF bounds = new RectF();
+    private final int[] location = new int[2];
+    /**
+     * The event as it arrived, while a mapped copy is being dispatched to children.  The list
+     * itself scrolls by the raw event.
+     */
+    @Nullable
+    private MotionEvent rawEvent;
+    private boolean mappingGesture;
+
+    public TurnRecyclerView(@NonNull Context context) {
+        this(context, null);
+    }
+
+    public TurnRecyclerView(@NonNull Context context, @Nullable AttributeSet attrs) {
+        this(context, attrs, 0);
+    }
+
+    public TurnRecyclerView(@NonNull Context context, @Nullable AttributeSet attrs, int defStyle) {
+        super(context, attrs, defStyle);
+        setAccessibilityDelegateCompat(new TurnAccessibilityDelegate(this));
+    }
+
+    @Override
+    protected boolean drawChild(Canvas canvas, View child, long drawingTime) {
+        final TurnLayoutManager layoutManager = getTurnLayoutManager();
+        if (layoutManager == null || !layoutManager.getChildTransform(child, childMatrix)) {
+            return super.drawChild(canvas, child, drawingTime);
+        }
+        final int saveCount = canvas.save();
+        canvas.concat(childMatrix);
+        final boolean more = super.drawChild(canvas, child, drawingTime);
+        canvas.restoreToCount(saveCount);
+        return more;
+    }
+
+    @Override
+    public boolean dispatchTouchEvent(MotionEvent event) {
+        if (event.getActionMasked() == MotionEvent.ACTION_DOWN) {
+            // The mapping is fixed for the whole gesture, so a child sees a consistent stream.
+            final View target = findChildUnder(event.getX(), event.getY(), touchMatrix);
+            mappingGesture = target != null && !touchMatrix.isIdentity();
+        }
+        if (!mappingGesture) {
+            return super.dispatchTouchEvent(event);
+        }
+        final MotionEvent mapped = MotionEvent.obtain(event);
+        mapped.transform(touchMatrix);
+        rawEvent = event;
+        try {
+            return super.dispatchTouchEvent(mapped);
+        } finally {
+            rawEvent = null;
+            mapped.recycle();
+            final int action = event.getActionMasked();
+            if (action == MotionEvent.ACTION_UP || action == MotionEvent.ACTION_CANCEL) {
+                mappingGesture = false;
+            }
+        }
+    }
+
+    @Override
+    public boolean onInterceptTouchEvent(MotionEvent event) {
+        return super.onInterceptTouchEvent(rawEvent != null ? rawEvent : event);
+    }
+
+    @Override
+    public boolean onTouchEvent(MotionEvent event) {
+        return super.onTouchEvent(rawEvent != null ? rawEvent : event);
+    }
+
+    @Nullable
+    @Override
+    public View findChildViewUnder(float x, float y) {
+        final TurnLayoutManager layoutManager = getTurnLayoutManager();
+        if (layoutManager == null || !layoutManager.isCanvasMode()) {
+            return super.findChildViewUnder(x, y);
+        }
+        return findChildUnder(x, y, hitMatrix);
+    }
+
+    /**
+     * Find the topmost child drawn under {@code (x, y)}, leaving the inverse of its transform in
+     * {@code inverse}, or the identity if it isn't transformed.
+     */
+    @Nullable
+    private View findChildUnder(float x, float y, Matrix inverse) {
+        final TurnLayoutManager layoutManager = getTurnLayoutManager();
+        for (int i = getChildCount() - 1; i >= 0; i--) {
+            final View child = getChildAt(i);
+            if (layoutManager == null
+                    || !layoutManager.getChildTransform(child, childMatrix)
+                    || !childMatrix.invert(inverse)) {
+                inverse.reset();
+            }
+            point[0] = x;
+            point[1] = y;
+            inverse.mapPoints(point);
+            if (point[0] >= child.getX() && point[0] < child.getX() + child.getWidth()
+                    && point[1] >= child.getY() && point[1] < child.getY() + child.getHeight()) {
+                return child;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Map {@code child}'s linear bounds, in the coordinates of this list offset by
+     * {@code (offsetX, offsetY)}, onto the turn.
+     *
+     * @return false if {@code child} isn't transformed.
+     */
+    private boolean mapChildBounds(View child, Rect rect, int offsetX, int offsetY) {
+        final TurnLayoutManager layoutManager = getTurnLayoutManager();
+        if (layoutManager == null || !layoutManager.getChildTransform(child, childMatrix)) {
+            return false;
+        }
+        bounds.set(rect);
+        bounds.offset(-offsetX, -offsetY);
+        childMatrix.mapRect(bounds);
+        bounds.offset(offsetX, offsetY);
+        bounds.roundOut(rect);
+        return true;
+    }
+
+    @Nullable
+    private TurnLayoutManager getTurnLayoutManager() {
+        final LayoutManager layoutManager = getLayoutManager();
+        return layoutManager instanceof TurnLayoutManager ? (TurnLayoutManager) layoutManager : null;
+    }
+
+    /**
+     * Reports the bounds of each item where it is drawn on the turn.
+     */
+    private static class TurnAccessibilityDelegate extends RecyclerViewAccessibilityDelegate {
+
+        private final ItemDelegate itemDelegate;
+
+        TurnAccessibilityDelegate(final TurnRecyclerView recyclerView) {
+            super(recyclerView);
+            itemDelegate = new ItemDelegate(this) {
+                private final Rect rect = new Rect();
+
+                @Override
+                public void onInitializeAccessibilityNodeInfo(View host, AccessibilityNodeInfoCompat info) {
+                    super.onInitializeAccessibilityNodeInfo(host, info);
+                    info.getBoundsInParent(rect);
+                    if (recyclerView.mapChildBounds(host, rect, 0, 0)) {
+                        info.setBoundsInParent(rect);
+                    }
+                    recyclerView.getLocationOnScreen(recyclerView.location);
+                    info.getBoundsInScreen(rect);
+                    if (recyclerView.mapChildBounds(host, rect, recyclerView.location[0], recyclerView.location[1])) {
+                        info.setBoundsInScreen(rect);
+                    }
+                }
+            };
+        }
+
+        @NonNull
+        @Override
+        public AccessibilityDelegateCompat getItemDelegate() {
+            return itemDelegate;
+        }
+    }
+}
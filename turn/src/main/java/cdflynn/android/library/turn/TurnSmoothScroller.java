@@ -0,0 +1,64 @@
+package cdflynn.android.library.turn;
+
+import android.content.Context;
+import android.view.View;
+
+import androidx.recyclerview.widget.LinearLayoutManager;
+import androidx.recyclerview.widget.LinearSmoothScroller;
+import androidx.recyclerview.widget.RecyclerView;
+
+/**
+ * A {@link LinearSmoothScroller} that brings its target to the apex of a {@link TurnLayoutManager},
+ * where the turn peaks, rather than to the nearest edge of the list.
+ * <p>
+ * The final distance is computed from the turn geometry as soon as the target is laid out, so the
+ * scroll lands in a single pass without a correcting scroll.  Targets more than a few screens away
+ * are first jumped to directly, so long scrolls across large adapters never lay out the items in
+ * between.
+ */
+public class TurnSmoothScroller extends LinearSmoothScroller {
+
+    /**
+     * Targets further than this many screens of items away are jumped to.
+     */
+    private static final int JUMP_SCREENS = 3;
+
+    public TurnSmoothScroller(Context context) {
+        super(context);
+    }
+
+    @Override
+    public int calculateDtToFit(int viewStart, int viewEnd, int boxStart, int boxEnd, int snapPreference) {
+        final RecyclerView.LayoutManager layoutManager = getLayoutManager();
+        if (!(layoutManager instanceof TurnLayoutManager)) {
+            return super.calculateDtToFit(viewStart, viewEnd, boxStart, boxEnd, snapPreference);
+        }
+        return ((TurnLayoutManager) layoutManager).getApexPosition() - (viewStart + viewEnd) / 2;
+    }
+
+    @Override
+    protected void updateActionForInterimTarget(Action action) {
+        final RecyclerView.LayoutManager layoutManager = getLayoutManager();
+        if (layoutManager instanceof LinearLayoutManager && layoutManager.getChildCount() > 0) {
+            final LinearLayoutManager linearLayoutManager = (LinearLayoutManager) layoutManager;
+            final View first = layoutManager.getChildAt(0);
+            final View last = layoutManager.getChildAt(layoutManager.getChildCount() - 1);
+            if (first != null && last != null) {
+                final int firstPosition = Math.min(linearLayoutManager.getPosition(first), linearLayoutManager.getPosition(last));
+                final int lastPosition = Math.max(linearLayoutManager.getPosition(first), linearLayoutManager.getPosition(last));
+                final int screen = lastPosition - firstPosition + 1;
+                final int target = getTargetPosition();
+                // Land a screen short of the target, and scroll the rest of the way.
+                if (target < firstPosition - JUMP_SCREENS * screen) {
+                    action.jumpTo(target + screen);
+                    return;
+                }
+                if (target > lastPosition + JUMP_SCREENS * screen) {
+                    action.jumpTo(target - screen);
+                    return;
+                }
+            }
+        }
+        super.updateActionForInterimTarget(action);
+    }
+}
@@ -0,0 +1,68 @@
+package cdflynn.android.library.turn;
+
+import android.view.View;
+
+import androidx.annotation.Nullable;
+import androidx.recyclerview.widget.LinearSnapHelper;
+import androidx.recyclerview.widget.RecyclerView;
+
+/**
+ * A {@link LinearSnapHelper} that snaps the item nearest the apex of a {@link TurnLayoutManager},
+ * where the turn peaks, to the apex.  For any other layout manager, it behaves like
+ * {@link LinearSnapHelper}.
+ * <p>
+ * The snap distance is read from the turn geometry in constant time, so settling needs no second
+ * layout or correction.
+ */
+public class TurnSnapHelper extends LinearSnapHelper {
+
+    @Nullable
+    @Override
+    public int[] calculateDistanceToFinalSnap(RecyclerView.LayoutManager layoutManager, View targetView) {
+        if (!(layoutManager instanceof TurnLayoutManager)) {
+            return super.calculateDistanceToFinalSnap(layoutManager, targetView);
+        }
+        final TurnLayoutManager turnLayoutManager = (TurnLayoutManager) layoutManager;
+        final int distance = getCenter(turnLayoutManager, targetView) - turnLayoutManager.getApexPosition();
+        return turnLayoutManager.canScrollVertically() ? new int[]{0, distance} : new int[]{distance, 0};
+    }
+
+    @Nullable
+    @Override
+    public View findSnapView(RecyclerView.LayoutManager layoutManager) {
+        if (!(layoutManager instanceof TurnLayoutManager)) {
+            return super.findSnapView(layoutManager);
+        }
+        final TurnLayoutManager turnLayoutManager = (TurnLayoutManager) layoutManager;
+        final int apexItemPosition = turnLayoutManager.findApexItemPosition();
+        if (apexItemPosition != RecyclerView.NO_POSITION) {
+            final View apexItem = turnLayoutManager.findViewByPosition(apexItemPosition);
+            if (apexItem != null) {
+                return apexItem;
+            }
+        }
+        final int apex = turnLayoutManager.getApexPosition();
+        View closest = null;
+        int closestDistance = Integer.MAX_VALUE;
+        for (int i = 0; i < layoutManager.getChildCount(); i++) {
+            final View child = layoutManager.getChildAt(i);
+            if (child == null) continue;
+            final int distance = Math.abs(getCenter(turnLayoutManager, child) - apex);
+            if (distance < closestDistance) {
+                closest = child;
+                closestDistance = distance;
+            }
+        }
+        return closest;
+    }
+
+    /**
+     * @return The center of {@code child}'s decorated bounds along the scroll axis.
+     */
+    private static int getCenter(TurnLayoutManager layoutManager, View child) {
+        if (layoutManager.canScrollVertically()) {
+            return (layoutManager.getDecoratedTop(child) + layoutManager.getDecoratedBottom(child)) / 2;
+        }
+        return (layoutManager.getDecoratedLeft(child) + layoutManager.getDecoratedRight(child)) / 2;
+    }
+}
@@ -0,0 +1,46 @@
+package cdflynn.android.library.turn;
+
+import android.view.View;
+import android.view.ViewGroup;
+
+import androidx.recyclerview.widget.RecyclerView;
+
+/**
+ * An adapter of plain views that are all the same size.  Binding does nothing, so once every
+ * view a test needs has been created, the adapter never allocates.
+ */
+class FixedSizeAdapter extends RecyclerView.Adapter<FixedSizeAdapter.Holder> {
+
+    private final int itemCount;
+    private final int width;
+    private final int height;
+
+    FixedSizeAdapter(int itemCount, int width, int height) {
+        this.itemCount = itemCount;
+        this.width = width;
+        this.height = height;
+    }
+
+    @Override
+    public Holder onCreateViewHolder(ViewGroup parent, int viewType) {
+        final View view = new View(parent.getContext());
+        view.setLayoutParams(new RecyclerView.LayoutParams(width, height));
+        return new Holder(view);
+    }
+
+    @Override
+    public void onBindViewHolder(Holder holder, int position) {
+    }
+
+    @Override
+    public int getItemCount() {
+        return itemCount;
+    }
+
+    static class Holder extends RecyclerView.ViewHolder {
+
+        Holder(View itemView) {
+            super(itemView);
+        }
+    }
+}
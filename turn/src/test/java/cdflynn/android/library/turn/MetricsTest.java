@@ -0,0 +1,53 @@
+package cdflynn.android.library.turn;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Checks that {@link TurnLayoutManager.Metrics#onLayoutRequested(int)} counts layouts, not setter
+ * calls.
+ */
+@RunWith(RobolectricTestRunner.class)
+public class MetricsTest {
+
+    private static final int ITEM_LENGTH = 180;
+
+    @Test
+    public void settersAheadOfOneLayoutReportOnce() {
+        final TurnLayoutManager layoutManager = TurnListFixture.createLayoutManager(TurnLayoutManager.Orientation.VERTICAL);
+        final TurnListFixture<TurnLayoutManager> fixture = new TurnListFixture<>(layoutManager, ITEM_LENGTH);
+        fixture.layout();
+        final CauseRecorder causes = new CauseRecorder();
+        layoutManager.setMetrics(causes);
+
+        layoutManager.setRadius(1200);
+        layoutManager.setPeekDistance(200);
+        layoutManager.setGravity(TurnLayoutManager.Gravity.END);
+        fixture.layout();
+        assertEquals(Arrays.asList(TurnLayoutManager.Metrics.Cause.GRAVITY), causes.causes);
+
+        fixture.layout();
+        assertEquals("layout without a setter", 1, causes.causes.size());
+    }
+
+    private static class CauseRecorder implements TurnLayoutManager.Metrics {
+
+        final List<Integer> causes = new ArrayList<>();
+
+        @Override
+        public void onPass(int pass, long durationNanos, int childCount, int outOfRadiusCount) {
+        }
+
+        @Override
+        public void onLayoutRequested(int cause) {
+            causes.add(cause);
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package cdflynn.android.library.turn;
+
+import android.os.Parcel;
+import android.os.Parcelable;
+import android.view.View;
+
+import androidx.recyclerview.widget.RecyclerView;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotNull;
+
+/**
+ * Saves a scrolled {@link TurnLayoutManager}, restores it into a new list, and checks that the
+ * restored list puts the apex item back at its saved distance from the apex within a single layout.
+ */
+@RunWith(RobolectricTestRunner.class)
+public class SavedStateTest {
+
+    /**
+     * Odd, so that item centers fall on half pixels.
+     */
+    private static final int ITEM_LENGTH = 173;
+
+    @Test
+    public void restoreVertical() {
+        assertRestoresInOneLayout(TurnLayoutManager.Orientation.VERTICAL);
+    }
+
+    @Test
+    public void restoreHorizontal() {
+        assertRestoresInOneLayout(TurnLayoutManager.Orientation.HORIZONTAL);
+    }
+
+    private void assertRestoresInOneLayout(@TurnLayoutManager.Orientation int orientation) {
+        final boolean vertical = orientation == TurnLayoutManager.Orientation.VERTICAL;
+
+        final TurnListFixture<TurnLayoutManager> original = new TurnListFixture<>(TurnListFixture.createLayoutManager(orientation), ITEM_LENGTH);
+        original.layout();
+        original.scrollBy(2345);
+        final TurnLayoutManager.SavedState saved = parcel(original.layoutManager.onSaveInstanceState());
+        assertNotEquals(RecyclerView.NO_POSITION, saved.anchorPosition);
+
+        final TurnLayoutManager restored = TurnListFixture.createLayoutManager(orientation);
+        final LayoutCounter layouts = new LayoutCounter();
+        restored.setMetrics(layouts);
+        final TurnListFixture<TurnLayoutManager> restoredList = new TurnListFixture<>(restored, ITEM_LENGTH);
+        restored.onRestoreInstanceState(saved);
+        restoredList.layout();
+
+        assertEquals("layout passes", 1, layouts.count);
+        final View anchor = restored.findViewByPosition(saved.anchorPosition);
+        assertNotNull(anchor);
+        final float center = vertical ? (restored.getDecoratedTop(anchor) + restored.getDecoratedBottom(anchor)) / 2.0f
+                : (restored.getDecoratedLeft(anchor) + restored.getDecoratedRight(anchor)) / 2.0f;
+        assertEquals(saved.anchorDistance, center - restored.getApexPosition(), 0);
+    }
+
+    /**
+     * Round trip {@code state} through a parcel, as when the process is recreated.
+     */
+    private static TurnLayoutManager.SavedState parcel(Parcelable state) {
+        final Parcel parcel = Parcel.obtain();
+        try {
+            state.writeToParcel(parcel, 0);
+            parcel.setDataPosition(0);
+            return TurnLayoutManager.SavedState.CREATOR.createFromParcel(parcel);
+        } finally {
+            parcel.recycle();
+        }
+    }
+
+    /**
+     * Counts {@link TurnLayoutManager.Metrics.Pass#LAYOUT} passes, pre-layout included.
+     */
+    private static class LayoutCounter implements TurnLayoutManager.Metrics {
+
+        int count;
+
+        @Override
+        public void onPass(int pass, long durationNanos, int childCount, int outOfRadiusCount) {
+            if (pass == Pass.LAYOUT) {
+                count++;
+            }
+        }
+
+        @Override
+        public void onLayoutRequested(int cause) {
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package cdflynn.android.library.turn;
+
+import android.view.View;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+
+import java.lang.management.ManagementFactory;
+import java.util.Locale;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Replays scroll traces against a {@link TurnLayoutManager} one step at a time, and reports the
+ * time, offset passes and bytes allocated per step.
+ * <p>
+ * A steady-state trace stays within the items already bound, so once it has been replayed once,
+ * replaying it again must not allocate at all.
+ */
+@RunWith(RobolectricTestRunner.class)
+public class ScrollReplayTest {
+
+    private static final int ITEM_LENGTH = 180;
+
+    private static final com.sun.management.ThreadMXBean THREADS =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    private TurnListFixture<TurnLayoutManager> fixture;
+
+    @Test
+    public void steadyStateVerticalDoesNotAllocate() {
+        setUp(TurnLayoutManager.Orientation.VERTICAL, TurnLayoutManager.OffsetMode.LAYOUT);
+        assertSteadyStateDoesNotAllocate();
+    }
+
+    @Test
+    public void steadyStateHorizontalDoesNotAllocate() {
+        setUp(TurnLayoutManager.Orientation.HORIZONTAL, TurnLayoutManager.OffsetMode.LAYOUT);
+        assertSteadyStateDoesNotAllocate();
+    }
+
+    @Test
+    public void steadyStateTranslationDoesNotAllocate() {
+        setUp(TurnLayoutManager.Orientation.VERTICAL, TurnLayoutManager.OffsetMode.TRANSLATION);
+        assertSteadyStateDoesNotAllocate();
+    }
+
+    @Test
+    public void flingThereAndBackRestoresTheLayout() {
+        setUp(TurnLayoutManager.Orientation.VERTICAL, TurnLayoutManager.OffsetMode.LAYOUT);
+        final View first = fixture.list.getChildAt(0);
+        final int position = fixture.layoutManager.getPosition(first);
+        final int left = first.getLeft();
+        final int top = first.getTop();
+        final float rotation = first.getRotation();
+
+        replay("fling", TurnListFixture.fling());
+
+        final View restored = fixture.list.getChildAt(0);
+        assertEquals(position, fixture.layoutManager.getPosition(restored));
+        assertEquals(left, restored.getLeft());
+        assertEquals(top, restored.getTop());
+        assertEquals(rotation, restored.getRotation(), 0);
+    }
+
+    private void setUp(@TurnLayoutManager.Orientation int orientation, @TurnLayoutManager.OffsetMode int offsetMode) {
+        final TurnLayoutManager layoutManager = TurnListFixture.createLayoutManager(orientation);
+        layoutManager.setOffsetMode(offsetMode);
+        fixture = new TurnListFixture<>(layoutManager, ITEM_LENGTH);
+        fixture.layout();
+        // Start away from the first item, so that both ends of the list are partly scrolled off.
+        fixture.scrollBy(ITEM_LENGTH * 20 + ITEM_LENGTH / 3);
+    }
+
+    private void assertSteadyStateDoesNotAllocate() {
+        final int[] trace = TurnListFixture.steadyState();
+        // The first replay creates whatever views, scrap space and tables the trace needs.
+        fixture.replay(trace);
+        final long passes = fixture.layoutManager.getOffsetPassCount();
+        final long allocated = replay("steady state", trace);
+        assertEquals("bytes allocated while replaying a steady-state trace", 0, allocated);
+        assertEquals("offset passes", trace.length, fixture.layoutManager.getOffsetPassCount() - passes);
+    }
+
+    /**
+     * Replay {@code trace} and print its cost per step.
+     *
+     * @return The number of bytes allocated while replaying.
+     */
+    private long replay(String name, int[] trace) {
+        final long passes = fixture.layoutManager.getOffsetPassCount();
+        // Reading the counter may itself allocate, depending on the JVM.
+        final long calibration = allocatedBytes();
+        final long overhead = allocatedBytes() - calibration;
+        final long start = System.nanoTime();
+        final long before = allocatedBytes();
+        fixture.replay(trace);
+        final long after = allocatedBytes();
+        final long elapsed = System.nanoTime() - start;
+        final long allocated = after - before - overhead;
+        System.out.println(String.format(Locale.US, "%s: %d steps, %.1fus/step, %.2f passes/step, %.1f bytes/step",
+                name,
+                trace.length,
+                elapsed / 1000f / trace.length,
+                (float) (fixture.layoutManager.getOffsetPassCount() - passes) / trace.length,
+                (float) allocated / trace.length));
+        return allocated;
+    }
+
+    private static long allocatedBytes() {
+        return THREADS.getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+}
@@ -0,0 +1,95 @@
+package cdflynn.android.library.turn;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+/**
+ * Holds {@link TurnLayoutManager.Precision#FAST} to the bounds documented on {@link TurnGeometry}:
+ * offsets within 0.01 pixels of exact, and angles within 0.005 degrees, for radii up to 10,000
+ * pixels.
+ */
+public class TurnGeometryTest {
+
+    private static final float OFFSET_TOLERANCE = 0.01f;
+    private static final float ANGLE_TOLERANCE = 0.005f;
+    private static final int MAX_RADIUS = 10000;
+
+    /**
+     * Beyond this radius, positions are checked on a stride through the middle of the circle and
+     * densely only near its edge, where the curve is steepest.
+     */
+    private static final int DENSE_RADIUS = 1000;
+    private static final int STRIDE = 128;
+    private static final int EDGE_STEPS = 64;
+
+    @Test
+    public void fastMathStaysWithinBounds() {
+        for (int radius = 1; radius <= MAX_RADIUS; radius++) {
+            for (int peekDistance : new int[]{0, radius / 2, radius}) {
+                // Child centers fall on whole and half pixels.  Both functions are symmetric around
+                // the apex, so one side of it is enough.
+                for (int step = 0; step <= 2 * radius + 1; step++) {
+                    if (radius > DENSE_RADIUS && step % STRIDE != 0 && step < 2 * radius - EDGE_STEPS) {
+                        continue;
+                    }
+                    final float position = step / 2f;
+                    assertOffset(radius, position, 0, peekDistance,
+                            TurnGeometry.resolveOffsetFast(radius, position, 0, peekDistance));
+                    assertAngle(radius, position, 0, TurnGeometry.resolveAngleFast(radius, position, 0));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void fastTableStaysWithinBounds() {
+        final int width = 1080;
+        final int height = 1920;
+        for (boolean vertical : new boolean[]{true, false}) {
+            for (boolean gravityStart : new boolean[]{true, false}) {
+                for (int radius : new int[]{1, 300, 960, 1500, MAX_RADIUS}) {
+                    for (int peekDistance : new int[]{0, radius / 2, radius}) {
+                        final TurnGeometry fast = new TurnGeometry(vertical, gravityStart, radius, peekDistance, width, height, true);
+                        final TurnGeometry exact = new TurnGeometry(vertical, gravityStart, radius, peekDistance, width, height, false);
+                        assertEquals(exact.apex(), fast.apex());
+                        final int length = vertical ? height : width;
+                        // Include centers of children hanging off either edge.
+                        for (int step = -200; step <= 2 * length + 200; step++) {
+                            final float position = step / 2f;
+                            assertOffset(radius, position, exact.apex(), peekDistance, fast.offsetAt(position, false));
+                            assertAngle(radius, position, exact.apex(), fast.angleAt(position, false));
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    private static void assertOffset(int radius, float position, int apex, int peekDistance, float actual) {
+        final double expected = TurnGeometry.resolveOffset(radius, position, apex, peekDistance);
+        if (!withinTolerance(expected, actual, OFFSET_TOLERANCE)) {
+            fail("offset at " + position + " for radius " + radius + ", peek " + peekDistance
+                    + " and apex " + apex + ": expected " + expected + " but was " + actual);
+        }
+    }
+
+    private static void assertAngle(int radius, float position, int apex, float actual) {
+        final double expected = TurnGeometry.resolveAngle(radius, position, apex);
+        if (!withinTolerance(expected, actual, ANGLE_TOLERANCE)) {
+            fail("angle at " + position + " for radius " + radius + " and apex " + apex
+                    + ": expected " + expected + " but was " + actual);
+        }
+    }
+
+    /**
+     * @return true if both are {@code NaN}, beyond the radius, or within {@code tolerance}.
+     */
+    private static boolean withinTolerance(double expected, float actual, float tolerance) {
+        if (Double.isNaN(expected) || Float.isNaN(actual)) {
+            return Double.isNaN(expected) && Float.isNaN(actual);
+        }
+        return Math.abs(expected - actual) <= tolerance;
+    }
+}
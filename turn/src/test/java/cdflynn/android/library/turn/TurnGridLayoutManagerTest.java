@@ -0,0 +1,68 @@
+package cdflynn.android.library.turn;
+
+import android.view.View;
+
+import androidx.recyclerview.widget.DefaultItemAnimator;
+import androidx.test.core.app.ApplicationProvider;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+
+import java.util.Arrays;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Checks that items of a {@link TurnGridLayoutManager} end up back on their lanes once an item
+ * animator has moved them.
+ */
+@RunWith(RobolectricTestRunner.class)
+public class TurnGridLayoutManagerTest {
+
+    private static final int SPAN_COUNT = 3;
+    private static final int ITEM_LENGTH = 180;
+
+    @Test
+    public void movedItemsSettleOnTheirLanes() {
+        final TurnGridLayoutManager layoutManager = new TurnGridLayoutManager(
+                ApplicationProvider.getApplicationContext(),
+                SPAN_COUNT,
+                TurnLayoutManager.Gravity.START,
+                TurnLayoutManager.Orientation.VERTICAL,
+                TurnListFixture.RADIUS,
+                TurnListFixture.PEEK_DISTANCE,
+                true);
+        final TurnListFixture<TurnGridLayoutManager> fixture = new TurnListFixture<>(layoutManager, ITEM_LENGTH);
+        assertTrue(fixture.list.getItemAnimator() instanceof DefaultItemAnimator);
+        fixture.attach();
+        fixture.layout();
+
+        // Every item after the first shifts by one lane, so the animator moves it sideways.
+        fixture.list.getAdapter().notifyItemMoved(0, 8);
+        fixture.layout();
+        fixture.list.getItemAnimator().endAnimations();
+        final float[] settled = translations(fixture);
+
+        fixture.layout();
+        final float[] laidOut = translations(fixture);
+        assertNotEquals(0, laidOut[1], 0);
+        assertArrayEquals(laidOut, settled, 0);
+    }
+
+    /**
+     * @return The perpendicular translation of each attached item, by adapter position, or
+     * {@code NaN} for items that aren't attached.
+     */
+    private static float[] translations(TurnListFixture<TurnGridLayoutManager> fixture) {
+        final float[] translations = new float[TurnListFixture.ITEM_COUNT];
+        Arrays.fill(translations, Float.NaN);
+        for (int i = 0; i < fixture.list.getChildCount(); i++) {
+            final View child = fixture.list.getChildAt(i);
+            translations[fixture.layoutManager.getPosition(child)] = child.getTranslationX();
+        }
+        return translations;
+    }
+}
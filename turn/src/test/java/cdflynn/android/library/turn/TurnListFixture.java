@@ -0,0 +1,125 @@
+package cdflynn.android.library.turn;
+
+import android.app.Activity;
+import android.view.View;
+import android.view.ViewGroup;
+
+import androidx.recyclerview.widget.LinearLayoutManager;
+import androidx.recyclerview.widget.RecyclerView;
+import androidx.test.core.app.ApplicationProvider;
+
+import org.robolectric.Robolectric;
+
+/**
+ * A {@link RecyclerView} of {@link FixedSizeAdapter} items, laid out by a {@link TurnLayoutManager}
+ * or {@link TurnGridLayoutManager} and driven only through the public {@link RecyclerView} API.
+ * The list is detached unless {@link #attach()} is called.
+ */
+class TurnListFixture<T extends LinearLayoutManager> {
+
+    static final int WIDTH = 1080;
+    static final int HEIGHT = 1920;
+    static final int ITEM_BREADTH = 400;
+    static final int ITEM_COUNT = 1000;
+    static final int RADIUS = 1400;
+    static final int PEEK_DISTANCE = 300;
+
+    /**
+     * A trace step that runs a full layout instead of scrolling.
+     */
+    static final int LAYOUT = Integer.MIN_VALUE;
+
+    final RecyclerView list;
+    final T layoutManager;
+    private final boolean vertical;
+
+    /**
+     * @param itemLength The size of each item along the scroll axis.
+     */
+    TurnListFixture(T layoutManager, int itemLength) {
+        this.layoutManager = layoutManager;
+        this.vertical = layoutManager.getOrientation() == RecyclerView.VERTICAL;
+        list = new RecyclerView(ApplicationProvider.getApplicationContext());
+        list.setLayoutManager(layoutManager);
+        list.setAdapter(vertical ? new FixedSizeAdapter(ITEM_COUNT, ITEM_BREADTH, itemLength)
+                : new FixedSizeAdapter(ITEM_COUNT, itemLength, ITEM_BREADTH));
+    }
+
+    static TurnLayoutManager createLayoutManager(@TurnLayoutManager.Orientation int orientation) {
+        return new TurnLayoutManager(ApplicationProvider.getApplicationContext(),
+                TurnLayoutManager.Gravity.START, orientation, RADIUS, PEEK_DISTANCE, true);
+    }
+
+    /**
+     * Attach the list to the window of an activity, at a fixed size, so that the layout manager
+     * sees the list and its item animator.
+     */
+    void attach() {
+        final Activity activity = Robolectric.buildActivity(Activity.class).setup().get();
+        activity.setContentView(list, new ViewGroup.LayoutParams(WIDTH, HEIGHT));
+    }
+
+    /**
+     * Measure and lay out the list synchronously, as the next frame would after a layout request.
+     */
+    void layout() {
+        list.requestLayout();
+        list.measure(View.MeasureSpec.makeMeasureSpec(WIDTH, View.MeasureSpec.EXACTLY),
+                View.MeasureSpec.makeMeasureSpec(HEIGHT, View.MeasureSpec.EXACTLY));
+        list.layout(0, 0, WIDTH, HEIGHT);
+    }
+
+    /**
+     * Scroll along the list's orientation.
+     */
+    void scrollBy(int delta) {
+        if (vertical) {
+            list.scrollBy(0, delta);
+        } else {
+            list.scrollBy(delta, 0);
+        }
+    }
+
+    /**
+     * Scroll by each delta of {@code trace} in turn, laying out at each {@link #LAYOUT} step.
+     */
+    void replay(int[] trace) {
+        for (int delta : trace) {
+            if (delta == LAYOUT) {
+                layout();
+            } else {
+                scrollBy(delta);
+            }
+        }
+    }
+
+    /**
+     * A slow drag back and forth within a single item, with a full layout at either end, as
+     * happens when items are updated mid-scroll.  Ends where it started.
+     */
+    static int[] steadyState() {
+        final int[] deltas = new int[110];
+        for (int i = 0; i < deltas.length; i++) {
+            final int step = i % 22;
+            if (step == 10 || step == 21) {
+                deltas[i] = LAYOUT;
+            } else {
+                deltas[i] = step < 10 ? 2 : -2;
+            }
+        }
+        return deltas;
+    }
+
+    /**
+     * A fling-like burst, decaying from a high velocity, followed by the same burst in reverse.
+     */
+    static int[] fling() {
+        final int[] deltas = new int[120];
+        for (int i = 0; i < 60; i++) {
+            final int delta = (int) (180 * Math.pow(0.93, i)) + 1;
+            deltas[i] = delta;
+            deltas[60 + i] = -delta;
+        }
+        return deltas;
+    }
+}